@@ -0,0 +1,129 @@
+package easymapper.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import easymapper.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+    public static class Counter {
+
+        private long value;
+
+        public long getValue() {
+            return value;
+        }
+
+        public void setValue(long value) {
+            this.value = value;
+        }
+    }
+
+    public static class Label {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    private Mapper mapper;
+
+    private Counter sourceCounter;
+    private Counter targetCounter;
+    private Label sourceLabel;
+    private Label targetLabel;
+
+    private Method getCounter;
+    private Method setCounter;
+    private Method getLabel;
+    private Method setLabel;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        mapper = new Mapper();
+
+        sourceCounter = new Counter();
+        sourceCounter.setValue(1024);
+        targetCounter = new Counter();
+        sourceLabel = new Label();
+        sourceLabel.setValue("foo");
+        targetLabel = new Label();
+
+        getCounter = Counter.class.getMethod("getValue");
+        setCounter = Counter.class.getMethod("setValue", long.class);
+        getLabel = Label.class.getMethod("getValue");
+        setLabel = Label.class.getMethod("setValue", String.class);
+    }
+
+    private static void copy(
+        Method getter,
+        Method setter,
+        Object source,
+        Object target
+    ) throws ReflectiveOperationException {
+        setter.invoke(target, getter.invoke(source));
+    }
+
+    @Benchmark
+    public Counter project_primitive_direct() {
+        targetCounter.setValue(sourceCounter.getValue());
+        return targetCounter;
+    }
+
+    @Benchmark
+    public Counter project_primitive_reflection()
+        throws ReflectiveOperationException {
+
+        copy(getCounter, setCounter, sourceCounter, targetCounter);
+        return targetCounter;
+    }
+
+    @Benchmark
+    public Counter project_primitive_easyMapper() {
+        mapper.project(sourceCounter, targetCounter);
+        return targetCounter;
+    }
+
+    @Benchmark
+    public Label project_reference_direct() {
+        targetLabel.setValue(sourceLabel.getValue());
+        return targetLabel;
+    }
+
+    @Benchmark
+    public Label project_reference_reflection()
+        throws ReflectiveOperationException {
+
+        copy(getLabel, setLabel, sourceLabel, targetLabel);
+        return targetLabel;
+    }
+
+    @Benchmark
+    public Label project_reference_easyMapper() {
+        mapper.project(sourceLabel, targetLabel);
+        return targetLabel;
+    }
+}
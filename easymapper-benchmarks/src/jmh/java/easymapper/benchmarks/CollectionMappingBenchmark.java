@@ -0,0 +1,72 @@
+package easymapper.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import easymapper.Mapper;
+import easymapper.benchmarks.Domain.Post;
+import easymapper.benchmarks.Domain.PostList;
+import easymapper.benchmarks.Domain.PostView;
+import easymapper.benchmarks.Domain.PostViewList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionMappingBenchmark {
+
+    @Param({ "10", "1000" })
+    public int size;
+
+    private Mapper mapper;
+    private PostList posts;
+
+    @Setup
+    public void setup() {
+        mapper = new Mapper();
+        List<Post> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(new Post(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "title " + i,
+                "text " + i
+            ));
+        }
+        posts = new PostList(list);
+    }
+
+    @Benchmark
+    public PostViewList handWritten() {
+        List<PostView> views = new ArrayList<>(posts.getPosts().size());
+        for (Post post : posts.getPosts()) {
+            views.add(new PostView(
+                post.getId().toString(),
+                post.getAuthorId().toString(),
+                post.getTitle(),
+                post.getText()
+            ));
+        }
+        return new PostViewList(views);
+    }
+
+    @Benchmark
+    public PostViewList easyMapper() {
+        return mapper.convert(posts, PostList.class, PostViewList.class);
+    }
+}
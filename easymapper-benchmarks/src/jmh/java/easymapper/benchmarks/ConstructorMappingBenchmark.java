@@ -0,0 +1,56 @@
+package easymapper.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import easymapper.Mapper;
+import easymapper.benchmarks.Domain.Post;
+import easymapper.benchmarks.Domain.PostView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorMappingBenchmark {
+
+    private Mapper mapper;
+    private Post post;
+
+    @Setup
+    public void setup() {
+        mapper = new Mapper();
+        post = new Post(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "title",
+            "text"
+        );
+    }
+
+    @Benchmark
+    public PostView handWritten() {
+        return new PostView(
+            post.getId().toString(),
+            post.getAuthorId().toString(),
+            post.getTitle(),
+            post.getText()
+        );
+    }
+
+    @Benchmark
+    public PostView easyMapper() {
+        return mapper.convert(post, Post.class, PostView.class);
+    }
+}
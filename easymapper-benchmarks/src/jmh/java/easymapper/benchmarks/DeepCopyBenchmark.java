@@ -0,0 +1,85 @@
+package easymapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import easymapper.Mapper;
+import easymapper.benchmarks.Domain.Address;
+import easymapper.benchmarks.Domain.Recipient;
+import easymapper.benchmarks.Domain.Shipment;
+import easymapper.benchmarks.Domain.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepCopyBenchmark {
+
+    private Mapper mapper;
+    private Shipment shipment;
+    private UserEntity entity;
+
+    @Setup
+    public void setup() {
+        mapper = new Mapper();
+        shipment = new Shipment(
+            1024L,
+            new Recipient("name", "010-1234-5678"),
+            new Address("country", "city", "12345")
+        );
+        entity = new UserEntity();
+        entity.setId(1024L);
+        entity.setUsername("username");
+        entity.setEmail("user@example.com");
+        entity.setActive(true);
+    }
+
+    @Benchmark
+    public Shipment copyConstructorHandWritten() {
+        Recipient recipient = shipment.getRecipient();
+        Address address = shipment.getAddress();
+        return new Shipment(
+            shipment.getId(),
+            recipient == null ? null : new Recipient(
+                recipient.getName(),
+                recipient.getPhoneNumber()
+            ),
+            address == null ? null : new Address(
+                address.getCountry(),
+                address.getCity(),
+                address.getZipCode()
+            )
+        );
+    }
+
+    @Benchmark
+    public Shipment copyConstructorEasyMapper() {
+        return mapper.convert(shipment, Shipment.class, Shipment.class);
+    }
+
+    @Benchmark
+    public UserEntity copySetterHandWritten() {
+        UserEntity copy = new UserEntity();
+        copy.setId(entity.getId());
+        copy.setUsername(entity.getUsername());
+        copy.setEmail(entity.getEmail());
+        copy.setActive(entity.isActive());
+        return copy;
+    }
+
+    @Benchmark
+    public UserEntity copySetterEasyMapper() {
+        return mapper.convert(entity, UserEntity.class, UserEntity.class);
+    }
+}
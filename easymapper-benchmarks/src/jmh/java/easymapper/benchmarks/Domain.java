@@ -0,0 +1,319 @@
+package easymapper.benchmarks;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+import java.util.UUID;
+
+public final class Domain {
+
+    private Domain() {
+    }
+
+    public static class Post {
+
+        private final UUID id;
+        private final UUID authorId;
+        private final String title;
+        private final String text;
+
+        @ConstructorProperties({ "id", "authorId", "title", "text" })
+        public Post(UUID id, UUID authorId, String title, String text) {
+            this.id = id;
+            this.authorId = authorId;
+            this.title = title;
+            this.text = text;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public UUID getAuthorId() {
+            return authorId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    public static class PostView {
+
+        private final String id;
+        private final String authorId;
+        private final String title;
+        private final String text;
+
+        @ConstructorProperties({ "id", "authorId", "title", "text" })
+        public PostView(String id, String authorId, String title, String text) {
+            this.id = id;
+            this.authorId = authorId;
+            this.title = title;
+            this.text = text;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getAuthorId() {
+            return authorId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    public static class User {
+
+        private final long id;
+        private final String username;
+        private final String email;
+        private final boolean active;
+
+        @ConstructorProperties({ "id", "username", "email", "active" })
+        public User(long id, String username, String email, boolean active) {
+            this.id = id;
+            this.username = username;
+            this.email = email;
+            this.active = active;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    public static class UserEntity {
+
+        private Long id;
+        private String username;
+        private String email;
+        private boolean active;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    public static class Recipient {
+
+        private final String name;
+        private final String phoneNumber;
+
+        @ConstructorProperties({ "name", "phoneNumber" })
+        public Recipient(String name, String phoneNumber) {
+            this.name = name;
+            this.phoneNumber = phoneNumber;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPhoneNumber() {
+            return phoneNumber;
+        }
+    }
+
+    public static class Address {
+
+        private final String country;
+        private final String city;
+        private final String zipCode;
+
+        @ConstructorProperties({ "country", "city", "zipCode" })
+        public Address(String country, String city, String zipCode) {
+            this.country = country;
+            this.city = city;
+            this.zipCode = zipCode;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public String getZipCode() {
+            return zipCode;
+        }
+    }
+
+    public static class Shipment {
+
+        private final long id;
+        private final Recipient recipient;
+        private final Address address;
+
+        @ConstructorProperties({ "id", "recipient", "address" })
+        public Shipment(long id, Recipient recipient, Address address) {
+            this.id = id;
+            this.recipient = recipient;
+            this.address = address;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Recipient getRecipient() {
+            return recipient;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class ShipmentView {
+
+        private final long id;
+        private final String recipientName;
+        private final String recipientPhoneNumber;
+        private final String addressCountry;
+        private final String addressCity;
+        private final String addressZipCode;
+
+        @ConstructorProperties({
+            "id",
+            "recipientName",
+            "recipientPhoneNumber",
+            "addressCountry",
+            "addressCity",
+            "addressZipCode"
+        })
+        public ShipmentView(
+            long id,
+            String recipientName,
+            String recipientPhoneNumber,
+            String addressCountry,
+            String addressCity,
+            String addressZipCode
+        ) {
+            this.id = id;
+            this.recipientName = recipientName;
+            this.recipientPhoneNumber = recipientPhoneNumber;
+            this.addressCountry = addressCountry;
+            this.addressCity = addressCity;
+            this.addressZipCode = addressZipCode;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getRecipientName() {
+            return recipientName;
+        }
+
+        public String getRecipientPhoneNumber() {
+            return recipientPhoneNumber;
+        }
+
+        public String getAddressCountry() {
+            return addressCountry;
+        }
+
+        public String getAddressCity() {
+            return addressCity;
+        }
+
+        public String getAddressZipCode() {
+            return addressZipCode;
+        }
+    }
+
+    public static class Bag<T> {
+
+        private final T value;
+
+        @ConstructorProperties({ "value" })
+        public Bag(T value) {
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    public static class PostList {
+
+        private final List<Post> posts;
+
+        @ConstructorProperties({ "posts" })
+        public PostList(List<Post> posts) {
+            this.posts = posts;
+        }
+
+        public List<Post> getPosts() {
+            return posts;
+        }
+    }
+
+    public static class PostViewList {
+
+        private final List<PostView> posts;
+
+        @ConstructorProperties({ "posts" })
+        public PostViewList(List<PostView> posts) {
+            this.posts = posts;
+        }
+
+        public List<PostView> getPosts() {
+            return posts;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package easymapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import easymapper.Mapper;
+import easymapper.benchmarks.Domain.Address;
+import easymapper.benchmarks.Domain.Recipient;
+import easymapper.benchmarks.Domain.Shipment;
+import easymapper.benchmarks.Domain.ShipmentView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatteningBenchmark {
+
+    private Mapper mapper;
+    private Shipment shipment;
+    private ShipmentView view;
+
+    @Setup
+    public void setup() {
+        mapper = new Mapper();
+        shipment = new Shipment(
+            1024L,
+            new Recipient("name", "010-1234-5678"),
+            new Address("country", "city", "12345")
+        );
+        view = flattenHandWritten();
+    }
+
+    @Benchmark
+    public ShipmentView flattenHandWritten() {
+        Recipient recipient = shipment.getRecipient();
+        Address address = shipment.getAddress();
+        return new ShipmentView(
+            shipment.getId(),
+            recipient == null ? null : recipient.getName(),
+            recipient == null ? null : recipient.getPhoneNumber(),
+            address == null ? null : address.getCountry(),
+            address == null ? null : address.getCity(),
+            address == null ? null : address.getZipCode()
+        );
+    }
+
+    @Benchmark
+    public ShipmentView flattenEasyMapper() {
+        return mapper.convert(shipment, Shipment.class, ShipmentView.class);
+    }
+
+    @Benchmark
+    public Shipment unflattenHandWritten() {
+        return new Shipment(
+            view.getId(),
+            new Recipient(
+                view.getRecipientName(),
+                view.getRecipientPhoneNumber()
+            ),
+            new Address(
+                view.getAddressCountry(),
+                view.getAddressCity(),
+                view.getAddressZipCode()
+            )
+        );
+    }
+
+    @Benchmark
+    public Shipment unflattenEasyMapper() {
+        return mapper.convert(view, ShipmentView.class, Shipment.class);
+    }
+}
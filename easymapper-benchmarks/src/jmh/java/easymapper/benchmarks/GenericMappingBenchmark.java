@@ -0,0 +1,53 @@
+package easymapper.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import easymapper.Mapper;
+import easymapper.TypeReference;
+import easymapper.benchmarks.Domain.Bag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericMappingBenchmark {
+
+    private static final TypeReference<Bag<UUID>> SOURCE_TYPE =
+        new TypeReference<Bag<UUID>>() { };
+
+    private static final TypeReference<Bag<String>> TARGET_TYPE =
+        new TypeReference<Bag<String>>() { };
+
+    private Mapper mapper;
+    private Bag<UUID> bag;
+
+    @Setup
+    public void setup() {
+        mapper = new Mapper();
+        bag = new Bag<>(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Bag<String> handWritten() {
+        UUID value = bag.getValue();
+        return new Bag<>(value == null ? null : value.toString());
+    }
+
+    @Benchmark
+    public Bag<String> easyMapper() {
+        return mapper.convert(bag, SOURCE_TYPE, TARGET_TYPE);
+    }
+}
@@ -0,0 +1,52 @@
+package easymapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import easymapper.Mapper;
+import easymapper.benchmarks.Domain.User;
+import easymapper.benchmarks.Domain.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private Mapper mapper;
+    private User user;
+    private UserEntity entity;
+
+    @Setup
+    public void setup() {
+        mapper = new Mapper();
+        user = new User(1024L, "username", "user@example.com", true);
+        entity = new UserEntity();
+    }
+
+    @Benchmark
+    public UserEntity handWritten() {
+        entity.setId(user.getId());
+        entity.setUsername(user.getUsername());
+        entity.setEmail(user.getEmail());
+        entity.setActive(user.isActive());
+        return entity;
+    }
+
+    @Benchmark
+    public UserEntity easyMapper() {
+        mapper.project(user, entity, User.class, UserEntity.class);
+        return entity;
+    }
+}
@@ -0,0 +1,717 @@
+package easymapper.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+final class MapperGenerator {
+
+    private static final Set<String> IDENTITY_TYPES = new HashSet<>(
+        Arrays.asList(
+            "java.lang.Boolean",
+            "java.lang.Byte",
+            "java.lang.Short",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Float",
+            "java.lang.Double",
+            "java.lang.Character",
+            "java.lang.String",
+            "java.util.UUID",
+            "java.math.BigInteger",
+            "java.math.BigDecimal",
+            "java.time.LocalDate",
+            "java.time.LocalTime",
+            "java.time.LocalDateTime"
+        )
+    );
+
+    private static final String INDENT = "    ";
+
+    private final TypeInspector inspector;
+    private final Types types;
+    private final String packageName;
+    private final String className;
+    private final DeclaredType sourceType;
+    private final DeclaredType targetType;
+
+    private final Map<String, String> typeTokens = new LinkedHashMap<>();
+    private final Set<String> identityTypes = new LinkedHashSet<>();
+    private final Map<String, String> readers = new HashMap<>();
+    private final List<String> methods = new ArrayList<>();
+    private int builders;
+
+    MapperGenerator(
+        TypeInspector inspector,
+        String packageName,
+        String className,
+        DeclaredType sourceType,
+        DeclaredType targetType
+    ) {
+        this.inspector = inspector;
+        this.types = inspector.types();
+        this.packageName = packageName;
+        this.className = className;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+    }
+
+    public String generate() {
+        String source = nameOf(sourceType);
+        String target = nameOf(targetType);
+
+        StringBuilder convert = new StringBuilder();
+        line(convert, 1, "@Override");
+        line(convert, 1, "public " + target + " convert(");
+        line(convert, 2, source + " source,");
+        line(convert, 2, "easymapper.MappingContext context");
+        line(convert, 1, ") {");
+        line(convert, 2, "if (source == null) {");
+        line(convert, 3, "return null;");
+        line(convert, 2, "}");
+        line(convert, 0, "");
+        appendConstruction(convert, getMembers(sourceType), targetType);
+        line(convert, 2, "return target;");
+        line(convert, 1, "}");
+
+        StringBuilder code = new StringBuilder();
+        if (packageName.isEmpty() == false) {
+            line(code, 0, "package " + packageName + ";");
+            line(code, 0, "");
+        }
+
+        line(code, 0, "@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+        line(code, 0, "public final class " + className
+            + " implements easymapper.GeneratedMapper<"
+            + source + ", " + target + "> {");
+        line(code, 0, "");
+
+        for (Map.Entry<String, String> token : typeTokens.entrySet()) {
+            line(code, 1, "private static final java.lang.reflect.Type "
+                + token.getValue() + " =");
+            line(code, 2, token.getKey() + ";");
+            line(code, 0, "");
+        }
+
+        line(code, 1, "@Override");
+        line(code, 1, "public java.lang.Class<" + source + "> sourceType() {");
+        line(code, 2, "return " + source + ".class;");
+        line(code, 1, "}");
+        line(code, 0, "");
+        line(code, 1, "@Override");
+        line(code, 1, "public java.lang.Class<" + target + "> targetType() {");
+        line(code, 2, "return " + target + ".class;");
+        line(code, 1, "}");
+        line(code, 0, "");
+        line(code, 1, "@Override");
+        line(code, 1, "public java.util.Collection<java.lang.reflect.Type>"
+            + " identityTypes() {");
+        line(code, 2, "return java.util.Arrays.<java.lang.reflect.Type>asList("
+            + String.join(", ", identityTypes) + ");");
+        line(code, 1, "}");
+        line(code, 0, "");
+        code.append(convert);
+
+        for (String method : methods) {
+            line(code, 0, "");
+            code.append(method);
+        }
+
+        line(code, 0, "}");
+        return code.toString();
+    }
+
+    private void appendConstruction(
+        StringBuilder body,
+        Map<String, Value> members,
+        DeclaredType type
+    ) {
+        ExecutableElement constructor = getConstructor(type);
+        List<String> names = getParameterNames(constructor);
+        List<? extends TypeMirror> parameterTypes = ((ExecutableType) types
+            .asMemberOf(type, constructor))
+            .getParameterTypes();
+        Map<String, Value> targetMembers = getMembers(type);
+
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            Object source = find(members, name);
+            if (source == null) {
+                throw new MappingGenerationException(
+                    "No property found for '" + name + "' to construct "
+                        + type + "."
+                );
+            }
+
+            TypeMirror parameterType = parameterTypes.get(i);
+            String argument = "argument" + i;
+            line(body, 2, nameOf(parameterType) + " " + argument + " = "
+                + convert(source, getTargetType(targetMembers, name, type),
+                    parameterType) + ";");
+            arguments.add(argument);
+        }
+
+        line(body, 2, nameOf(type) + " target = new " + nameOf(type)
+            + "(" + String.join(", ", arguments) + ");");
+        appendProjection(body, members, "target", type, 2);
+    }
+
+    private void appendProjection(
+        StringBuilder body,
+        Map<String, Value> members,
+        String target,
+        DeclaredType type,
+        int depth
+    ) {
+        Map<String, Property> targetProperties = inspector.getProperties(type);
+
+        for (Property property : targetProperties.values()) {
+            if (property.isWritable()) {
+                appendWriteStep(body, members, target, property, depth);
+            }
+        }
+
+        for (Property property : targetProperties.values()) {
+            if (property.isWritable() == false) {
+                appendProjectStep(body, members, target, property, depth);
+            }
+        }
+    }
+
+    private void appendWriteStep(
+        StringBuilder body,
+        Map<String, Value> members,
+        String target,
+        Property property,
+        int depth
+    ) {
+        Object source = find(members, property.name());
+        if (source == null) {
+            return;
+        }
+
+        String setter = invocation(target, property.setter());
+        if (source instanceof Value) {
+            Value value = (Value) source;
+            TypeMirror valueType = readType(value);
+            line(body, depth, "{");
+            line(body, depth + 1, nameOf(valueType) + " value = "
+                + read(value) + ";");
+            line(body, depth + 1, "if ((java.lang.Object) value != "
+                + "(java.lang.Object) "
+                + invocation(target, property.getter()) + "()) {");
+            line(body, depth + 2, setter + "(" + convert(
+                value,
+                "value",
+                valueType,
+                property.type(),
+                property.setterType()
+            ) + ");");
+            line(body, depth + 1, "}");
+            line(body, depth, "}");
+        } else {
+            line(body, depth, setter + "(" + convert(
+                source,
+                property.type(),
+                property.setterType()
+            ) + ");");
+        }
+    }
+
+    private void appendProjectStep(
+        StringBuilder body,
+        Map<String, Value> members,
+        String target,
+        Property property,
+        int depth
+    ) {
+        Object source = find(members, property.name());
+        if (source == null || isIdentity(property.type())) {
+            return;
+        }
+
+        String getter = invocation(target, property.getter()) + "()";
+        if (source instanceof Value) {
+            Value value = (Value) source;
+            line(body, depth, "context.project(");
+            line(body, depth + 1, read(value) + ",");
+            line(body, depth + 1, getter + ",");
+            line(body, depth + 1, typeToken(value.type()) + ",");
+            line(body, depth + 1, typeToken(property.type()));
+            line(body, depth, ");");
+        } else {
+            DeclaredType nestedType = asDeclaredType(property.type());
+            String nested = "target" + depth;
+            StringBuilder steps = new StringBuilder();
+            appendProjection(
+                steps,
+                asMembers(source),
+                nested,
+                nestedType,
+                depth + 1
+            );
+            if (steps.length() == 0) {
+                return;
+            }
+
+            line(body, depth, "{");
+            line(body, depth + 1, nameOf(nestedType) + " " + nested + " = "
+                + getter + ";");
+            body.append(steps);
+            line(body, depth, "}");
+        }
+    }
+
+    private String convert(
+        Object source,
+        TypeMirror targetType,
+        TypeMirror parameterType
+    ) {
+        if (source instanceof Value) {
+            Value value = (Value) source;
+            return convert(
+                value,
+                read(value),
+                readType(value),
+                targetType,
+                parameterType
+            );
+        }
+
+        DeclaredType type = asDeclaredType(targetType);
+        String builder = "build" + builders++;
+        StringBuilder method = new StringBuilder();
+        line(method, 1, "private static " + nameOf(type) + " " + builder + "(");
+        line(method, 2, nameOf(sourceType) + " source,");
+        line(method, 2, "easymapper.MappingContext context");
+        line(method, 1, ") {");
+        methods.add(null);
+        int index = methods.size() - 1;
+        appendConstruction(method, asMembers(source), type);
+        line(method, 2, "return target;");
+        line(method, 1, "}");
+        methods.set(index, method.toString());
+
+        return builder + "(source, context)";
+    }
+
+    private String convert(
+        Value value,
+        String expression,
+        TypeMirror expressionType,
+        TypeMirror targetType,
+        TypeMirror parameterType
+    ) {
+        if (isIdentity(value.type())
+            && types.isSameType(value.type(), targetType)
+            && types.isAssignable(expressionType, parameterType)) {
+            identityTypes.add(nameOf(value.type()) + ".class");
+            return expression;
+        }
+
+        return "(" + nameOf(box(parameterType)) + ") context.convert("
+            + expression + ", "
+            + typeToken(value.type()) + ", "
+            + typeToken(targetType) + ")";
+    }
+
+    private Object find(Map<String, Value> members, String name) {
+        Value stated = members.get(name);
+        if (stated != null) {
+            return stated;
+        }
+
+        Value flattened = findFlattened(members, name, name);
+        if (flattened != null) {
+            return flattened;
+        }
+
+        return findUnflattened(members, name);
+    }
+
+    private Value findFlattened(
+        Map<String, Value> members,
+        String path,
+        String unresolvedPath
+    ) {
+        for (Value value : members.values()) {
+            String name = value.name();
+
+            if (unresolvedPath.equalsIgnoreCase(name)) {
+                return value;
+            }
+
+            if (path.toLowerCase().startsWith(name.toLowerCase())) {
+                return findFlattened(
+                    getMembers(value),
+                    path,
+                    path.substring(name.length())
+                );
+            }
+        }
+
+        return null;
+    }
+
+    private Map<String, Value> findUnflattened(
+        Map<String, Value> members,
+        String name
+    ) {
+        Map<String, Value> tuple = new HashMap<>();
+
+        for (Value value : members.values()) {
+            String memberName = value.name();
+            if (memberName.toLowerCase().startsWith(name.toLowerCase())) {
+                String truncatedName = memberName.substring(name.length());
+                tuple.put(truncatedName, value.withName(truncatedName));
+            }
+        }
+
+        return tuple.isEmpty() ? null : tuple;
+    }
+
+    private Map<String, Value> getMembers(TypeMirror type) {
+        Map<String, Value> members = new HashMap<>();
+        for (Property property : inspector.getProperties(type).values()) {
+            members.put(property.name(), Value.of(property));
+        }
+
+        return members;
+    }
+
+    private Map<String, Value> getMembers(Value value) {
+        Map<String, Value> members = new HashMap<>();
+        for (Property property : inspector.getProperties(value.type()).values()) {
+            members.put(property.name(), value.append(property));
+        }
+
+        return members;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Value> asMembers(Object tuple) {
+        return (Map<String, Value>) tuple;
+    }
+
+    private TypeMirror getTargetType(
+        Map<String, Value> targetMembers,
+        String name,
+        DeclaredType type
+    ) {
+        Value stated = targetMembers.get(name);
+        if (stated != null) {
+            return stated.type();
+        }
+
+        Value flattened = findFlattened(targetMembers, name, name);
+        if (flattened != null) {
+            return flattened.type();
+        }
+
+        throw new MappingGenerationException(
+            "No property found for '" + name + "' from " + type + "."
+        );
+    }
+
+    private ExecutableElement getConstructor(DeclaredType type) {
+        TypeElement element = (TypeElement) type.asElement();
+        if (element.getKind().isClass() == false
+            || element.getKind() == ElementKind.ENUM
+            || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new MappingGenerationException(
+                "Cannot construct an instance of " + type + "."
+            );
+        }
+
+        ExecutableElement widest = null;
+        boolean ambiguous = false;
+        for (ExecutableElement constructor
+            : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) == false) {
+                continue;
+            }
+
+            if (widest == null || constructor.getParameters().size()
+                > widest.getParameters().size()) {
+                widest = constructor;
+                ambiguous = false;
+            } else if (constructor.getParameters().size()
+                == widest.getParameters().size()) {
+                ambiguous = true;
+            }
+        }
+
+        if (widest == null) {
+            throw new MappingGenerationException(
+                "No constructor found for " + type + "."
+            );
+        }
+
+        if (ambiguous) {
+            throw new MappingGenerationException(
+                "Cannot select a constructor for " + type
+                    + " because it has more than one widest public"
+                    + " constructor."
+            );
+        }
+
+        return widest;
+    }
+
+    private static List<String> getParameterNames(
+        ExecutableElement constructor
+    ) {
+        List<String> names = new ArrayList<>();
+        for (VariableElement parameter : constructor.getParameters()) {
+            names.add(parameter.getSimpleName().toString());
+        }
+
+        if (names.isEmpty()) {
+            return names;
+        }
+
+        for (AnnotationMirror annotation : constructor.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation
+                .getAnnotationType()
+                .asElement();
+            if (annotationType
+                .getQualifiedName()
+                .contentEquals("java.beans.ConstructorProperties")) {
+                if (getAnnotatedNames(annotation).equals(names) == false) {
+                    throw new MappingGenerationException(
+                        "The @ConstructorProperties names of " + constructor
+                            + " in " + constructor.getEnclosingElement()
+                            + " do not match its parameter names."
+                    );
+                }
+
+                return names;
+            }
+        }
+
+        throw new MappingGenerationException(
+            "The constructor " + constructor + " in "
+                + constructor.getEnclosingElement()
+                + " is not decorated with @ConstructorProperties annotation."
+        );
+    }
+
+    private static List<String> getAnnotatedNames(AnnotationMirror annotation) {
+        List<String> names = new ArrayList<>();
+        for (AnnotationValue value : annotation.getElementValues().values()) {
+            for (Object name : (List<?>) value.getValue()) {
+                names.add((String) ((AnnotationValue) name).getValue());
+            }
+        }
+
+        return names;
+    }
+
+    private String read(Value value) {
+        List<Property> path = value.path();
+        if (path.size() == 1) {
+            return invocation("source", path.get(0).getter()) + "()";
+        }
+
+        String key = describe(path);
+        String reader = readers.get(key);
+        if (reader == null) {
+            reader = "read" + readers.size();
+            readers.put(key, reader);
+            methods.add(generateReader(reader, value));
+        }
+
+        return reader + "(source)";
+    }
+
+    private TypeMirror readType(Value value) {
+        return value.path().size() == 1 ? value.type() : box(value.type());
+    }
+
+    private String generateReader(String reader, Value value) {
+        StringBuilder method = new StringBuilder();
+        List<Property> path = value.path();
+        line(method, 1, "private static " + nameOf(box(value.type())) + " "
+            + reader + "(" + nameOf(sourceType) + " source) {");
+
+        String instance = "source";
+        for (int i = 0; i < path.size() - 1; i++) {
+            Property property = path.get(i);
+            String variable = "value" + i;
+            line(method, 2, nameOf(property.type()) + " " + variable + " = "
+                + invocation(instance, property.getter()) + "();");
+            line(method, 2, "if (" + variable + " == null) {");
+            line(method, 3, "return null;");
+            line(method, 2, "}");
+            line(method, 0, "");
+            instance = variable;
+        }
+
+        Property leaf = path.get(path.size() - 1);
+        line(method, 2, "return " + invocation(instance, leaf.getter()) + "();");
+        line(method, 1, "}");
+        return method.toString();
+    }
+
+    private static String describe(List<Property> path) {
+        StringBuilder key = new StringBuilder();
+        for (Property property : path) {
+            key.append(property.getter().getEnclosingElement())
+                .append('#')
+                .append(property.getter().getSimpleName())
+                .append('/');
+        }
+
+        return key.toString();
+    }
+
+    private String invocation(String instance, ExecutableElement method) {
+        String receiver = method.getModifiers().contains(Modifier.STATIC)
+            ? nameOf(method.getEnclosingElement().asType())
+            : instance;
+        return receiver + "." + method.getSimpleName();
+    }
+
+    private String typeToken(TypeMirror type) {
+        if (isDenotable(type) == false) {
+            throw new MappingGenerationException(
+                "Cannot generate a type token for " + type + "."
+            );
+        }
+
+        String expression = isReifiable(type)
+            ? nameOf(type) + ".class"
+            : "new easymapper.TypeReference<" + type + ">() { }.getType()";
+
+        String token = typeTokens.get(expression);
+        if (token == null) {
+            token = "TYPE_" + typeTokens.size();
+            typeTokens.put(expression, token);
+        }
+
+        return token;
+    }
+
+    private static boolean isDenotable(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            case ARRAY:
+                return isDenotable(((ArrayType) type).getComponentType());
+            case DECLARED:
+                for (TypeMirror argument
+                    : ((DeclaredType) type).getTypeArguments()) {
+                    if (isDenotable(argument) == false) {
+                        return false;
+                    }
+                }
+
+                TypeMirror enclosingType = ((DeclaredType) type)
+                    .getEnclosingType();
+                return enclosingType.getKind() == TypeKind.NONE
+                    || isDenotable(enclosingType);
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                TypeMirror bound = wildcard.getExtendsBound() != null
+                    ? wildcard.getExtendsBound()
+                    : wildcard.getSuperBound();
+                return bound == null || isDenotable(bound);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isReifiable(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isReifiable(((ArrayType) type).getComponentType());
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                TypeMirror enclosingType = declaredType.getEnclosingType();
+                return declaredType.getTypeArguments().isEmpty()
+                    && (enclosingType.getKind() == TypeKind.NONE
+                        || isReifiable(enclosingType));
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private static boolean isIdentity(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+
+        return type.getKind() == TypeKind.DECLARED
+            && ((DeclaredType) type).getTypeArguments().isEmpty()
+            && IDENTITY_TYPES.contains(qualifiedNameOf(type));
+    }
+
+    private static String qualifiedNameOf(TypeMirror type) {
+        return ((TypeElement) ((DeclaredType) type).asElement())
+            .getQualifiedName()
+            .toString();
+    }
+
+    private DeclaredType asDeclaredType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new MappingGenerationException(
+                "Cannot unflatten properties into " + type + "."
+            );
+        }
+
+        return (DeclaredType) type;
+    }
+
+    private TypeMirror box(TypeMirror type) {
+        return type.getKind().isPrimitive()
+            ? types.boxedClass((PrimitiveType) type).asType()
+            : type;
+    }
+
+    private String nameOf(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private static void line(StringBuilder code, int depth, String text) {
+        if (text.isEmpty() == false) {
+            for (int i = 0; i < depth; i++) {
+                code.append(INDENT);
+            }
+
+            code.append(text);
+        }
+
+        code.append('\n');
+    }
+}
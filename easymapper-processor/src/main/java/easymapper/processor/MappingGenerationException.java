@@ -0,0 +1,8 @@
+package easymapper.processor;
+
+final class MappingGenerationException extends RuntimeException {
+
+    MappingGenerationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,276 @@
+package easymapper.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+@SupportedAnnotationTypes({
+    MappingProcessor.GENERATE_MAPPING,
+    MappingProcessor.GENERATE_MAPPINGS
+})
+public final class MappingProcessor extends AbstractProcessor {
+
+    static final String GENERATE_MAPPING = "easymapper.GenerateMapping";
+    static final String GENERATE_MAPPINGS = "easymapper.GenerateMappings";
+
+    private static final String SERVICE_FILE =
+        "META-INF/services/easymapper.GeneratedMapper";
+
+    private final Map<String, String> mappers = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+        Set<? extends TypeElement> annotations,
+        RoundEnvironment roundEnv
+    ) {
+        for (TypeElement annotation : annotations) {
+            for (Element element
+                : roundEnv.getElementsAnnotatedWith(annotation)) {
+                for (AnnotationMirror mapping : getMappings(element)) {
+                    process(element, mapping);
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+        }
+
+        return true;
+    }
+
+    private static List<AnnotationMirror> getMappings(Element element) {
+        List<AnnotationMirror> mappings = new ArrayList<>();
+
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = nameOf(annotation);
+            if (name.equals(GENERATE_MAPPING)) {
+                mappings.add(annotation);
+            } else if (name.equals(GENERATE_MAPPINGS)) {
+                for (Object value : (List<?>) getValue(annotation, "value")) {
+                    AnnotationValue mapping = (AnnotationValue) value;
+                    mappings.add((AnnotationMirror) mapping.getValue());
+                }
+            }
+        }
+
+        return mappings;
+    }
+
+    private void process(Element element, AnnotationMirror mapping) {
+        TypeMirror sourceType = (TypeMirror) getValue(mapping, "source");
+        TypeMirror targetType = (TypeMirror) getValue(mapping, "target");
+        if (sourceType.getKind() == TypeKind.ERROR
+            || targetType.getKind() == TypeKind.ERROR) {
+            return;
+        }
+
+        String packageName = processingEnv
+            .getElementUtils()
+            .getPackageOf(element)
+            .getQualifiedName()
+            .toString();
+
+        try {
+            DeclaredType source = asAccessibleType(sourceType, packageName);
+            DeclaredType target = asAccessibleType(targetType, packageName);
+            String className = getClassName(source) + "To"
+                + getClassName(target) + "Mapper";
+            String qualifiedName = packageName.isEmpty()
+                ? className
+                : packageName + "." + className;
+
+            String pair = source + " -> " + target;
+            String existingPair = mappers.get(qualifiedName);
+            if (pair.equals(existingPair)) {
+                return;
+            } else if (existingPair != null) {
+                throw new MappingGenerationException(
+                    "The mapper name " + qualifiedName + " is already used"
+                        + " for " + existingPair + "."
+                );
+            }
+
+            String code = new MapperGenerator(
+                new TypeInspector(
+                    processingEnv.getTypeUtils(),
+                    processingEnv.getElementUtils()
+                ),
+                packageName,
+                className,
+                source,
+                target
+            ).generate();
+
+            write(qualifiedName, code, element);
+            mappers.put(qualifiedName, pair);
+            originatingElements.add(element);
+        } catch (MappingGenerationException exception) {
+            error(
+                "Cannot generate a mapper from " + sourceType + " to "
+                    + targetType + ". " + exception.getMessage(),
+                element,
+                mapping
+            );
+        }
+    }
+
+    private static String nameOf(AnnotationMirror annotation) {
+        TypeElement type = (TypeElement) annotation
+            .getAnnotationType()
+            .asElement();
+        return type.getQualifiedName().toString();
+    }
+
+    private static Object getValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue>
+            entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+
+        throw new IllegalStateException(
+            "The annotation " + annotation + " has no value for " + name + "."
+        );
+    }
+
+    private static DeclaredType asAccessibleType(
+        TypeMirror type,
+        String packageName
+    ) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            throw new MappingGenerationException(
+                "The type " + type + " is not a class or an interface."
+            );
+        }
+
+        Element element = ((DeclaredType) type).asElement();
+        while (element instanceof TypeElement) {
+            Set<Modifier> modifiers = element.getModifiers();
+            boolean accessible = modifiers.contains(Modifier.PUBLIC)
+                || (modifiers.contains(Modifier.PRIVATE) == false
+                    && isInPackage(element, packageName));
+            if (accessible == false) {
+                throw new MappingGenerationException(
+                    "The type " + element + " is not accessible from "
+                        + "the package '" + packageName + "'."
+                );
+            }
+
+            element = element.getEnclosingElement();
+        }
+
+        return (DeclaredType) type;
+    }
+
+    private static boolean isInPackage(Element element, String packageName) {
+        Element enclosingElement = element.getEnclosingElement();
+        while (enclosingElement instanceof TypeElement) {
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
+
+        return ((PackageElement) enclosingElement)
+            .getQualifiedName()
+            .contentEquals(packageName);
+    }
+
+    private static String getClassName(DeclaredType type) {
+        TypeElement element = (TypeElement) type.asElement();
+        String name = element.getSimpleName().toString();
+        if (element.getNestingKind() == NestingKind.MEMBER) {
+            return getClassName((DeclaredType) element
+                .getEnclosingElement()
+                .asType()) + "_" + name;
+        }
+
+        return name;
+    }
+
+    private void write(String qualifiedName, String code, Element element) {
+        try {
+            JavaFileObject file = processingEnv
+                .getFiler()
+                .createSourceFile(qualifiedName, element);
+            try (Writer writer = file.openWriter()) {
+                writer.write(code);
+            }
+        } catch (IOException exception) {
+            error(
+                "Cannot write " + qualifiedName + ": " + exception.getMessage(),
+                element,
+                null
+            );
+        }
+    }
+
+    private void writeServiceFile() {
+        if (mappers.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                SERVICE_FILE,
+                originatingElements.toArray(new Element[0])
+            );
+            try (Writer writer = file.openWriter()) {
+                for (String mapper : mappers.keySet()) {
+                    writer.write(mapper);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            error(
+                "Cannot write " + SERVICE_FILE + ": " + exception.getMessage(),
+                null,
+                null
+            );
+        }
+    }
+
+    private void error(
+        String message,
+        Element element,
+        AnnotationMirror annotation
+    ) {
+        processingEnv.getMessager().printMessage(
+            Diagnostic.Kind.ERROR,
+            message,
+            element,
+            annotation
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package easymapper.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+
+final class Property {
+
+    private final String name;
+    private final TypeMirror type;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final TypeMirror setterType;
+
+    Property(
+        String name,
+        TypeMirror type,
+        ExecutableElement getter,
+        ExecutableElement setter,
+        TypeMirror setterType
+    ) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+        this.setterType = setterType;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public TypeMirror type() {
+        return type;
+    }
+
+    public ExecutableElement getter() {
+        return getter;
+    }
+
+    public ExecutableElement setter() {
+        return setter;
+    }
+
+    public TypeMirror setterType() {
+        return setterType;
+    }
+
+    public boolean isWritable() {
+        return setter != null;
+    }
+}
@@ -0,0 +1,167 @@
+package easymapper.processor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import static java.lang.Character.isUpperCase;
+import static java.lang.Character.toLowerCase;
+
+final class TypeInspector {
+
+    private final Types types;
+    private final Elements elements;
+
+    TypeInspector(Types types, Elements elements) {
+        this.types = types;
+        this.elements = elements;
+    }
+
+    public Types types() {
+        return types;
+    }
+
+    public Map<String, Property> getProperties(TypeMirror type) {
+        Map<String, Property> properties = new HashMap<>();
+        if (type.getKind() != TypeKind.DECLARED) {
+            return properties;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        List<ExecutableElement> methods = getPublicMethods(declaredType);
+        Map<String, ExecutableElement> getters = getGetters(methods);
+        Map<String, ExecutableElement> setters = getSetters(methods);
+
+        for (Map.Entry<String, ExecutableElement> entry : getters.entrySet()) {
+            String name = entry.getKey();
+            ExecutableElement getter = entry.getValue();
+            ExecutableElement setter = setters.get(name);
+            properties.put(name, new Property(
+                name,
+                resolveReturnType(declaredType, getter),
+                getter,
+                setter,
+                setter == null ? null : resolveParameterType(declaredType, setter)
+            ));
+        }
+
+        return properties;
+    }
+
+    private List<ExecutableElement> getPublicMethods(DeclaredType type) {
+        TypeElement element = (TypeElement) type.asElement();
+        List<ExecutableElement> methods = ElementFilter.methodsIn(
+            elements.getAllMembers(element)
+        );
+        methods.removeIf(method ->
+            method.getModifiers().contains(Modifier.PUBLIC) == false
+        );
+        return methods;
+    }
+
+    private Map<String, ExecutableElement> getGetters(
+        List<ExecutableElement> methods
+    ) {
+        Map<String, ExecutableElement> getters = new HashMap<>();
+
+        for (ExecutableElement method : methods) {
+            if (method.getParameters().isEmpty() == false
+                || isDeclaredInObject(method)
+                || method.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+
+            String methodName = method.getSimpleName().toString();
+            String propertyName;
+            if (methodName.startsWith("get")) {
+                propertyName = camelize(methodName.substring(3));
+            } else if (methodName.startsWith("is")) {
+                propertyName = camelize(methodName.substring(2));
+            } else {
+                propertyName = methodName;
+            }
+
+            if (propertyName.isEmpty() == false) {
+                getters.put(propertyName, method);
+            }
+        }
+
+        return getters;
+    }
+
+    private Map<String, ExecutableElement> getSetters(
+        List<ExecutableElement> methods
+    ) {
+        Map<String, ExecutableElement> setters = new HashMap<>();
+
+        for (ExecutableElement method : methods) {
+            if (method.getParameters().size() != 1) {
+                continue;
+            }
+
+            String methodName = method.getSimpleName().toString();
+            String propertyName = methodName.startsWith("set")
+                ? camelize(methodName.substring(3))
+                : methodName;
+
+            if (propertyName.isEmpty() == false) {
+                setters.put(propertyName, method);
+            }
+        }
+
+        return setters;
+    }
+
+    private static boolean isDeclaredInObject(ExecutableElement method) {
+        TypeElement owner = (TypeElement) method.getEnclosingElement();
+        return owner.getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    private static String camelize(String s) {
+        if (s.isEmpty()) {
+            return s;
+        }
+
+        char head = s.charAt(0);
+        return isUpperCase(head) ? toLowerCase(head) + s.substring(1) : s;
+    }
+
+    private TypeMirror resolveReturnType(
+        DeclaredType owner,
+        ExecutableElement getter
+    ) {
+        TypeMirror returnType = getter.getReturnType();
+        if (returnType.getKind() == TypeKind.TYPEVAR
+            && owner.getTypeArguments().isEmpty() == false) {
+            return resolve(owner, getter).getReturnType();
+        }
+
+        return returnType;
+    }
+
+    private TypeMirror resolveParameterType(
+        DeclaredType owner,
+        ExecutableElement setter
+    ) {
+        if (owner.getTypeArguments().isEmpty()) {
+            return setter.getParameters().get(0).asType();
+        }
+
+        return resolve(owner, setter).getParameterTypes().get(0);
+    }
+
+    private ExecutableType resolve(DeclaredType owner, ExecutableElement method) {
+        return (ExecutableType) types.asMemberOf(owner, method);
+    }
+}
@@ -0,0 +1,54 @@
+package easymapper.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.lang.model.type.TypeMirror;
+
+final class Value {
+
+    private final String name;
+    private final TypeMirror type;
+    private final List<Property> path;
+
+    private Value(String name, TypeMirror type, List<Property> path) {
+        this.name = name;
+        this.type = type;
+        this.path = path;
+    }
+
+    public static Value of(Property property) {
+        return new Value(
+            property.name(),
+            property.type(),
+            Collections.singletonList(property)
+        );
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public TypeMirror type() {
+        return type;
+    }
+
+    public List<Property> path() {
+        return path;
+    }
+
+    public Value withName(String name) {
+        return new Value(name, type, path);
+    }
+
+    public Value append(Property property) {
+        List<Property> path = new ArrayList<>(this.path);
+        path.add(property);
+        return new Value(
+            property.name(),
+            property.type(),
+            Collections.unmodifiableList(path)
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package easymapper;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
+
+class AccessorFactory {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    public static Optional<Function<Object, Object>> tryCreateGetter(
+        Method method
+    ) {
+        if (isLinkable(method) == false) {
+            return Optional.empty();
+        }
+
+        MethodType instantiatedType = methodType(
+            method.getReturnType(),
+            method.getDeclaringClass()
+        ).wrap();
+
+        return tryCreate(
+            method,
+            "apply",
+            Function.class,
+            methodType(Object.class, Object.class),
+            instantiatedType
+        );
+    }
+
+    public static Optional<BiConsumer<Object, Object>> tryCreateSetter(
+        Method method
+    ) {
+        if (isLinkable(method) == false) {
+            return Optional.empty();
+        }
+
+        MethodType instantiatedType = methodType(
+            void.class,
+            method.getDeclaringClass(),
+            method.getParameterTypes()[0]
+        ).wrap().changeReturnType(void.class);
+
+        return tryCreate(
+            method,
+            "accept",
+            BiConsumer.class,
+            methodType(void.class, Object.class, Object.class),
+            instantiatedType
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<T> tryCreate(
+        Method method,
+        String interfaceMethodName,
+        Class<?> interfaceType,
+        MethodType interfaceMethodType,
+        MethodType instantiatedMethodType
+    ) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                LOOKUP,
+                interfaceMethodName,
+                methodType(interfaceType),
+                interfaceMethodType,
+                LOOKUP.unreflect(method),
+                instantiatedMethodType
+            );
+            return Optional.of((T) site.getTarget().invoke());
+        } catch (Throwable exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isLinkable(Method method) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isPublic(modifiers) == false
+            || Modifier.isStatic(modifiers)) {
+            return false;
+        }
+
+        if (isVisible(method.getDeclaringClass()) == false) {
+            return false;
+        }
+
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (isVisible(parameterType) == false) {
+                return false;
+            }
+        }
+
+        return isVisible(method.getReturnType());
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        } else if (type.isArray()) {
+            return isVisible(type.getComponentType());
+        } else if (Modifier.isPublic(type.getModifiers()) == false) {
+            return false;
+        }
+
+        try {
+            ClassLoader loader = AccessorFactory.class.getClassLoader();
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+}
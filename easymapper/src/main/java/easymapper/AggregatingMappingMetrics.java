@@ -0,0 +1,83 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class AggregatingMappingMetrics implements MappingMetrics {
+
+    private static final class Counters {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos =
+            new LongAccumulator(Math::max, 0);
+
+        void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+    }
+
+    private final Map<MappingOperation, ConcurrentMap<TypePair, Counters>>
+        counters = new EnumMap<>(MappingOperation.class);
+
+    public AggregatingMappingMetrics() {
+        for (MappingOperation operation : MappingOperation.values()) {
+            counters.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void onEnd(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        int depth,
+        long elapsedNanos
+    ) {
+        ConcurrentMap<TypePair, Counters> operationCounters =
+            counters.get(operation);
+        TypePair key = new TypePair(sourceType, targetType);
+        Counters pairCounters = operationCounters.get(key);
+        if (pairCounters == null) {
+            pairCounters = operationCounters.computeIfAbsent(
+                key,
+                k -> new Counters()
+            );
+        }
+
+        pairCounters.record(elapsedNanos);
+    }
+
+    public List<MappingStatistics> getStatistics() {
+        List<MappingStatistics> statistics = new ArrayList<>();
+        counters.forEach((operation, operationCounters) ->
+            operationCounters.forEach((key, pairCounters) ->
+                statistics.add(new MappingStatistics(
+                    operation,
+                    key.sourceType(),
+                    key.targetType(),
+                    pairCounters.count.sum(),
+                    pairCounters.totalNanos.sum(),
+                    pairCounters.maxNanos.get()
+                ))
+            )
+        );
+        return statistics;
+    }
+
+    public void reset() {
+        for (ConcurrentMap<TypePair, Counters> operationCounters
+            : counters.values()) {
+            operationCounters.clear();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package easymapper;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import easymapper.Arrays.ElementReader;
+import easymapper.Arrays.ElementWriter;
+
+import static easymapper.Arrays.createArray;
+import static easymapper.Arrays.getElementReader;
+import static easymapper.Arrays.getElementWriter;
+import static easymapper.Arrays.resolveComponentType;
+import static easymapper.Collections.createCollection;
+import static easymapper.Collections.resolveElementType;
+
+class ArrayMapping {
+
+    public static void configure(MapperConfigurationBuilder config) {
+        TypePredicate isArray = Arrays::isArray;
+        TypePredicate isIterable = Collections::isIterable;
+        ContainerConverter convertArray = ArrayMapping::convertArray;
+        ContainerConverter convertIterable = ArrayMapping::convertIterable;
+        config.addConverter(isArray, isArray, convertArray);
+        config.addConverter(isArray, isIterable, convertArray);
+        config.addConverter(isIterable, isArray, convertIterable);
+        config.addProjector(isArray, isArray, Projector.empty());
+        config.addProjector(isArray, isIterable, Projector.empty());
+        config.addProjector(isIterable, isArray, Projector.empty());
+    }
+
+    private static Object convertArray(Object source, MappingContext context) {
+        if (source == null) {
+            return null;
+        }
+
+        MappingContext elementMappingContext = context.branch(
+            resolveComponentType(context.getSourceType()),
+            resolveElementOrComponentType(context));
+
+        return Arrays.isArray(context.getTargetType())
+            ? copyArray(source, context, elementMappingContext)
+            : collectArray(source, context, elementMappingContext);
+    }
+
+    private static Type resolveElementOrComponentType(
+        MappingContext context
+    ) {
+        return Arrays.isArray(context.getTargetType())
+            ? resolveComponentType(context.getTargetType())
+            : resolveElementType(context.getTargetType());
+    }
+
+    private static Object copyArray(
+        Object source,
+        MappingContext context,
+        MappingContext elementMappingContext
+    ) {
+        int length = Array.getLength(source);
+        Object target = createArray(context.getTargetType(), length);
+        boolean identity = elementMappingContext.isIdentity();
+
+        if (identity && source.getClass().equals(target.getClass())) {
+            System.arraycopy(source, 0, target, 0, length);
+            return target;
+        }
+
+        ElementReader reader = getElementReader(source);
+        ElementWriter writer = getElementWriter(target);
+        for (int i = 0; i < length; i++) {
+            Object element = reader.read(source, i);
+            writer.write(
+                target,
+                i,
+                identity ? element : elementMappingContext.convert(element)
+            );
+        }
+
+        return target;
+    }
+
+    private static Object collectArray(
+        Object source,
+        MappingContext context,
+        MappingContext elementMappingContext
+    ) {
+        int length = Array.getLength(source);
+        Collection<Object> target = createCollection(
+            context.getTargetType(),
+            length);
+        boolean identity = elementMappingContext.isIdentity();
+
+        if (identity && source instanceof Object[]) {
+            target.addAll(java.util.Arrays.asList((Object[]) source));
+            return target;
+        }
+
+        ElementReader reader = getElementReader(source);
+        for (int i = 0; i < length; i++) {
+            Object element = reader.read(source, i);
+            target.add(
+                identity ? element : elementMappingContext.convert(element)
+            );
+        }
+
+        return target;
+    }
+
+    private static Object convertIterable(
+        Object source,
+        MappingContext context
+    ) {
+        if (source == null) {
+            return null;
+        }
+
+        MappingContext elementMappingContext = context.branch(
+            resolveElementType(context.getSourceType()),
+            resolveComponentType(context.getTargetType()));
+
+        Collection<?> elements = asCollection((Iterable<?>) source);
+        Object target = createArray(context.getTargetType(), elements.size());
+        boolean identity = elementMappingContext.isIdentity();
+
+        if (identity && target instanceof Object[]) {
+            return elements.toArray((Object[]) target);
+        }
+
+        ElementWriter writer = getElementWriter(target);
+        int index = 0;
+        for (Object element : elements) {
+            writer.write(
+                target,
+                index++,
+                identity ? element : elementMappingContext.convert(element)
+            );
+        }
+
+        return target;
+    }
+
+    private static Collection<?> asCollection(Iterable<?> source) {
+        if (source instanceof Collection<?>) {
+            return (Collection<?>) source;
+        }
+
+        List<Object> elements = new ArrayList<>();
+        for (Object element : source) {
+            elements.add(element);
+        }
+
+        return elements;
+    }
+}
@@ -0,0 +1,123 @@
+package easymapper;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Type;
+
+import static easymapper.Collections.getRawType;
+
+class Arrays {
+
+    @FunctionalInterface
+    interface ElementReader {
+
+        Object read(Object array, int index);
+    }
+
+    @FunctionalInterface
+    interface ElementWriter {
+
+        void write(Object array, int index, Object value);
+    }
+
+    private static final ClassValue<ElementReader> ELEMENT_READERS =
+        new ClassValue<ElementReader>() {
+            @Override
+            protected ElementReader computeValue(Class<?> componentType) {
+                return createElementReader(componentType);
+            }
+        };
+
+    private static final ClassValue<ElementWriter> ELEMENT_WRITERS =
+        new ClassValue<ElementWriter>() {
+            @Override
+            protected ElementWriter computeValue(Class<?> componentType) {
+                return createElementWriter(componentType);
+            }
+        };
+
+    public static boolean isArray(Type type) {
+        if (type instanceof Class<?>) {
+            return ((Class<?>) type).isArray();
+        } else {
+            return type instanceof GenericArrayType;
+        }
+    }
+
+    public static Type resolveComponentType(Type arrayType) {
+        if (arrayType instanceof Class<?> && ((Class<?>) arrayType).isArray()) {
+            return ((Class<?>) arrayType).getComponentType();
+        } else if (arrayType instanceof GenericArrayType) {
+            return ((GenericArrayType) arrayType).getGenericComponentType();
+        } else {
+            throw new RuntimeException(
+                "Cannot resolve component type from the type: " + arrayType
+            );
+        }
+    }
+
+    public static Object createArray(Type arrayType, int length) {
+        Class<?> componentType = getRawType(resolveComponentType(arrayType));
+        return Array.newInstance(componentType, length);
+    }
+
+    public static ElementReader getElementReader(Object array) {
+        return ELEMENT_READERS.get(array.getClass().getComponentType());
+    }
+
+    public static ElementWriter getElementWriter(Object array) {
+        return ELEMENT_WRITERS.get(array.getClass().getComponentType());
+    }
+
+    private static ElementReader createElementReader(Class<?> componentType) {
+        if (componentType.isPrimitive() == false) {
+            return (array, index) -> ((Object[]) array)[index];
+        } else if (componentType.equals(boolean.class)) {
+            return (array, index) -> ((boolean[]) array)[index];
+        } else if (componentType.equals(byte.class)) {
+            return (array, index) -> ((byte[]) array)[index];
+        } else if (componentType.equals(short.class)) {
+            return (array, index) -> ((short[]) array)[index];
+        } else if (componentType.equals(int.class)) {
+            return (array, index) -> ((int[]) array)[index];
+        } else if (componentType.equals(long.class)) {
+            return (array, index) -> ((long[]) array)[index];
+        } else if (componentType.equals(float.class)) {
+            return (array, index) -> ((float[]) array)[index];
+        } else if (componentType.equals(double.class)) {
+            return (array, index) -> ((double[]) array)[index];
+        } else {
+            return (array, index) -> ((char[]) array)[index];
+        }
+    }
+
+    private static ElementWriter createElementWriter(Class<?> componentType) {
+        if (componentType.isPrimitive() == false) {
+            return (array, index, value) -> ((Object[]) array)[index] = value;
+        } else if (componentType.equals(boolean.class)) {
+            return (array, index, value) ->
+                ((boolean[]) array)[index] = (Boolean) value;
+        } else if (componentType.equals(byte.class)) {
+            return (array, index, value) ->
+                ((byte[]) array)[index] = (Byte) value;
+        } else if (componentType.equals(short.class)) {
+            return (array, index, value) ->
+                ((short[]) array)[index] = (Short) value;
+        } else if (componentType.equals(int.class)) {
+            return (array, index, value) ->
+                ((int[]) array)[index] = (Integer) value;
+        } else if (componentType.equals(long.class)) {
+            return (array, index, value) ->
+                ((long[]) array)[index] = (Long) value;
+        } else if (componentType.equals(float.class)) {
+            return (array, index, value) ->
+                ((float[]) array)[index] = (Float) value;
+        } else if (componentType.equals(double.class)) {
+            return (array, index, value) ->
+                ((double[]) array)[index] = (Double) value;
+        } else {
+            return (array, index, value) ->
+                ((char[]) array)[index] = (Character) value;
+        }
+    }
+}
@@ -7,6 +7,8 @@ class BaseConfiguration {
             .apply(PrimitiveObjectMapping::configure)
             .apply(AtomicObjectMapping::configure)
             .apply(UUIDMapping::configure)
-            .apply(CollectionMapping::configure);
+            .apply(CollectionMapping::configure)
+            .apply(ArrayMapping::configure)
+            .apply(MapMapping::configure);
     }
 }
@@ -0,0 +1,117 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+
+final class ClonePlan {
+
+    private final ConstructionPlan construction;
+    private final BiConsumer<Object, Object>[] steps;
+
+    @SuppressWarnings("unchecked")
+    private ClonePlan(
+        ConstructionPlan construction,
+        List<BiConsumer<Object, Object>> steps
+    ) {
+        this.construction = construction;
+        this.steps = steps.toArray(new BiConsumer[0]);
+    }
+
+    public static ClonePlan compile(MappingPlan plan) {
+        Type type = plan.targetType();
+        MappingConfiguration configuration = plan.configuration();
+        Properties properties = Properties.get(type);
+        ConstructorSelection selection = configuration
+            .constructors()
+            .select(type);
+
+        List<Function<Object, Object>> arguments = new ArrayList<>();
+        for (String propertyName : selection.propertyNames()) {
+            arguments.add(compileValueCopy(plan, properties.get(propertyName)));
+        }
+
+        Set<String> copiedNames = new HashSet<>(
+            asList(selection.propertyNames())
+        );
+        List<BiConsumer<Object, Object>> steps = new ArrayList<>();
+        properties.useWritableProperties(property -> {
+            if (copiedNames.contains(property.name()) == false) {
+                steps.add(compileSetStep(plan, property));
+            }
+        });
+        properties.useReadOnlyProperties(property -> {
+            if (copiedNames.contains(property.name()) == false) {
+                compileProjectStep(plan, property).ifPresent(steps::add);
+            }
+        });
+
+        return new ClonePlan(
+            new ConstructionPlan(
+                selection.constructor(),
+                arguments,
+                configuration.compilationThreshold()
+            ),
+            steps
+        );
+    }
+
+    private static Function<Object, Object> compileValueCopy(
+        MappingPlan plan,
+        Property property
+    ) {
+        MappingPlan propertyPlan = plan.branch(property.type(), property.type());
+        if (propertyPlan.isIdentity()) {
+            return property::get;
+        }
+
+        return source -> propertyPlan.convert(property.get(source));
+    }
+
+    private static BiConsumer<Object, Object> compileSetStep(
+        MappingPlan plan,
+        Property property
+    ) {
+        Function<Object, Object> copy = compileValueCopy(plan, property);
+        return (source, target) -> property.set(target, copy.apply(source));
+    }
+
+    private static Optional<BiConsumer<Object, Object>> compileProjectStep(
+        MappingPlan plan,
+        Property property
+    ) {
+        MappingPlan propertyPlan = plan.branch(property.type(), property.type());
+        if (propertyPlan.isIdentity()) {
+            return Optional.empty();
+        }
+
+        return Optional.of((source, target) -> propertyPlan.project(
+            property.get(source),
+            property.get(target)
+        ));
+    }
+
+    public Object copy(Object source) {
+        if (source == null) {
+            return null;
+        }
+
+        Object target = construction.construct(source);
+        for (BiConsumer<Object, Object> step : steps) {
+            step.accept(source, target);
+        }
+
+        return target;
+    }
+
+    public void prepare() {
+        construction.prepare();
+    }
+}
@@ -1,16 +1,38 @@
 package easymapper;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.function.Function;
 
+import static easymapper.Collections.createCollection;
+import static easymapper.Collections.createUnmodifiableView;
+import static easymapper.Collections.getHashCapacity;
+import static easymapper.Collections.getRawType;
+import static easymapper.Collections.isAssignable;
+import static easymapper.Collections.isModifiable;
 import static easymapper.Collections.resolveElementType;
+import static java.util.Collections.newSetFromMap;
 
 class CollectionMapping {
 
+    private static final int DEFAULT_CAPACITY = 10;
+
     public static void configure(MapperConfigurationBuilder config) {
         TypePredicate isIterable = Collections::isIterable;
-        config.addConverter(isIterable, isIterable, CollectionMapping::convert);
-        config.addProjector(isIterable, isIterable, Projector.empty());
+        ContainerConverter convert = CollectionMapping::convert;
+        config.addConverter(isIterable, isIterable, convert);
+        config.addProjector(isIterable, isIterable, CollectionMapping::project);
     }
 
     private static Object convert(Object source, MappingContext context) {
@@ -22,11 +44,240 @@ class CollectionMapping {
             resolveElementType(context.getSourceType()),
             resolveElementType(context.getTargetType()));
 
+        boolean passThrough = source instanceof Collection<?>
+            && elementMappingContext.isIdentity();
+        if (passThrough && isViewEnabled(context)) {
+            Optional<Collection<Object>> view = createUnmodifiableView(
+                (Collection<?>) source,
+                context.getTargetType());
+            if (view.isPresent()) {
+                return view.get();
+            }
+        }
+
+        if (passThrough == false && isLazy(context)) {
+            return new LazyMappedList(toArray(source), elementMappingContext);
+        }
+
+        Collection<Object> target = createCollection(
+            context.getTargetType(),
+            source instanceof Collection<?>
+                ? ((Collection<?>) source).size()
+                : DEFAULT_CAPACITY,
+            getComparator(source, elementMappingContext));
+
+        if (passThrough) {
+            target.addAll((Collection<?>) source);
+            return target;
+        }
+
+        if (isParallel(source, context)) {
+            target.addAll(Arrays.asList(ParallelConversion.convert(
+                ((Collection<?>) source).toArray(),
+                elementMappingContext,
+                context.getConfiguration().parallelExecutor())));
+            return target;
+        }
+
+        for (Object element : source) {
+            target.add(elementMappingContext.convert(element));
+        }
+
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> getComparator(
+        Iterable<?> source,
+        MappingContext elementMappingContext
+    ) {
+        boolean comparable = source instanceof SortedSet<?>
+            && isAssignable(
+                elementMappingContext.getTargetType(),
+                elementMappingContext.getSourceType());
+        return comparable
+            ? ((SortedSet<Object>) source).comparator()
+            : null;
+    }
+
+    private static boolean isViewEnabled(MappingContext context) {
+        return context
+            .getConfiguration()
+            .collectionPassThrough() == CollectionPassThrough.VIEW;
+    }
+
+    private static boolean isLazy(MappingContext context) {
+        return context.getConfiguration().lazyCollections()
+            && getRawType(context.getTargetType()).isAssignableFrom(List.class);
+    }
+
+    private static boolean isParallel(
+        Iterable<?> source,
+        MappingContext context
+    ) {
+        return source instanceof Collection<?>
+            && ((Collection<?>) source).size()
+                >= context.getConfiguration().parallelThreshold();
+    }
+
+    private static Object[] toArray(Iterable<?> source) {
+        if (source instanceof Collection<?>) {
+            return ((Collection<?>) source).toArray();
+        }
+
         List<Object> list = new ArrayList<>();
         for (Object element : source) {
-            list.add(elementMappingContext.convert(element));
+            list.add(element);
+        }
+
+        return list.toArray();
+    }
+
+    static boolean hasElementKeys(
+        Type sourceType,
+        Type targetType,
+        MappingConfiguration configuration
+    ) {
+        return configuration
+            .findElementKey(getRawType(resolveElementType(sourceType)))
+            .isPresent()
+            && configuration
+                .findElementKey(getRawType(resolveElementType(targetType)))
+                .isPresent();
+    }
+
+    private static void project(
+        Object source,
+        Object target,
+        MappingContext context
+    ) {
+        if (source == null
+            || target instanceof Collection<?> == false
+            || isModifiable((Collection<?>) target) == false
+            || context.getConfiguration().collectionProjection()
+                != CollectionProjection.IN_PLACE) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Collection<Object> targetCollection = (Collection<Object>) target;
+        project((Iterable<?>) source, targetCollection, context);
+    }
+
+    private static void project(
+        Iterable<?> source,
+        Collection<Object> target,
+        MappingContext context
+    ) {
+        MappingConfiguration configuration = context.getConfiguration();
+        Type sourceElementType = resolveElementType(context.getSourceType());
+        Type targetElementType = resolveElementType(context.getTargetType());
+        MappingContext elementMappingContext = context.branch(
+            sourceElementType,
+            targetElementType);
+
+        Optional<Function<Object, Object>> sourceKey = configuration
+            .findElementKey(getRawType(sourceElementType));
+        Optional<Function<Object, Object>> targetKey = configuration
+            .findElementKey(getRawType(targetElementType));
+
+        if (sourceKey.isPresent() && targetKey.isPresent()) {
+            projectByKey(
+                source,
+                target,
+                elementMappingContext,
+                sourceKey.get(),
+                targetKey.get());
+        } else if (target instanceof List<?>) {
+            projectByIndex(source, (List<Object>) target, elementMappingContext);
+        }
+    }
+
+    private static void projectByKey(
+        Iterable<?> source,
+        Collection<Object> target,
+        MappingContext elementMappingContext,
+        Function<Object, Object> sourceKey,
+        Function<Object, Object> targetKey
+    ) {
+        boolean replace = elementMappingContext.hasConverter();
+        Map<Object, Object> targetElements = new HashMap<>(
+            getHashCapacity(target.size()));
+        for (Object element : target) {
+            Object key = element == null ? null : targetKey.apply(element);
+            if (key != null) {
+                targetElements.putIfAbsent(key, element);
+            }
+        }
+
+        List<Object> elements = new ArrayList<>();
+        Set<Object> projectedElements = newSetFromMap(new IdentityHashMap<>());
+        for (Object element : source) {
+            Object key = element == null ? null : sourceKey.apply(element);
+            Object existing = key == null ? null : targetElements.remove(key);
+            if (existing == null || replace) {
+                elements.add(elementMappingContext.convert(element));
+            } else {
+                elementMappingContext.project(element, existing);
+                elements.add(existing);
+                projectedElements.add(existing);
+            }
         }
 
-        return list;
+        target.removeIf(
+            element -> projectedElements.contains(element) == false);
+
+        if (target instanceof List<?>) {
+            arrange((List<Object>) target, elements);
+        } else {
+            for (Object element : elements) {
+                if (projectedElements.contains(element) == false) {
+                    target.add(element);
+                }
+            }
+        }
+    }
+
+    private static void arrange(List<Object> target, List<Object> elements) {
+        ListIterator<Object> targetElements = target.listIterator();
+        for (Object element : elements) {
+            if (targetElements.hasNext() == false) {
+                targetElements.add(element);
+            } else if (targetElements.next() != element) {
+                targetElements.set(element);
+            }
+        }
+
+        while (targetElements.hasNext()) {
+            targetElements.next();
+            targetElements.remove();
+        }
+    }
+
+    private static void projectByIndex(
+        Iterable<?> source,
+        List<Object> target,
+        MappingContext elementMappingContext
+    ) {
+        boolean replace = elementMappingContext.hasConverter();
+        ListIterator<Object> targetElements = target.listIterator();
+        for (Object element : source) {
+            if (targetElements.hasNext() == false) {
+                targetElements.add(elementMappingContext.convert(element));
+                continue;
+            }
+
+            Object existing = targetElements.next();
+            if (existing == null || element == null || replace) {
+                targetElements.set(elementMappingContext.convert(element));
+            } else {
+                elementMappingContext.project(element, existing);
+            }
+        }
+
+        while (targetElements.hasNext()) {
+            targetElements.next();
+            targetElements.remove();
+        }
     }
 }
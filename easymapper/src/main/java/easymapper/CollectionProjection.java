@@ -0,0 +1,7 @@
+package easymapper;
+
+public enum CollectionProjection {
+
+    NONE,
+    IN_PLACE
+}
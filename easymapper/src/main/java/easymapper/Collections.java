@@ -1,10 +1,65 @@
 package easymapper;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
 
 class Collections {
 
+    private static final ClassValue<IntFunction<Collection<Object>>>
+        COLLECTION_FACTORIES =
+        new ClassValue<IntFunction<Collection<Object>>>() {
+            @Override
+            protected IntFunction<Collection<Object>> computeValue(
+                Class<?> type
+            ) {
+                return createCollectionFactory(type);
+            }
+        };
+
+    private static final Set<Class<?>> UNMODIFIABLE_TYPES =
+        new HashSet<>(java.util.Arrays.asList(
+            LazyMappedList.class,
+            java.util.Arrays.asList().getClass(),
+            java.util.Collections.emptyList().getClass(),
+            java.util.Collections.emptySet().getClass(),
+            java.util.Collections.singletonList(null).getClass(),
+            java.util.Collections.singleton(null).getClass(),
+            java.util.Collections.nCopies(0, null).getClass(),
+            java.util.Collections
+                .unmodifiableCollection(new ArrayList<>())
+                .getClass(),
+            java.util.Collections
+                .unmodifiableList(new ArrayList<>())
+                .getClass(),
+            java.util.Collections
+                .unmodifiableList(new LinkedList<>())
+                .getClass(),
+            java.util.Collections
+                .unmodifiableSet(new HashSet<>())
+                .getClass(),
+            java.util.Collections
+                .unmodifiableSortedSet(new TreeSet<>())
+                .getClass(),
+            java.util.Collections
+                .unmodifiableNavigableSet(new TreeSet<>())
+                .getClass()
+        ));
+
     public static boolean isIterable(Type type) {
         if (type instanceof ParameterizedType) {
             return isIterable((ParameterizedType) type);
@@ -47,4 +102,152 @@ class Collections {
     private static Type resolveElementType(ParameterizedType type) {
         return type.getActualTypeArguments()[0];
     }
+
+    public static Collection<Object> createCollection(
+        Type collectionType,
+        int capacity
+    ) {
+        return COLLECTION_FACTORIES
+            .get(getRawType(collectionType))
+            .apply(capacity);
+    }
+
+    public static Collection<Object> createCollection(
+        Type collectionType,
+        int capacity,
+        Comparator<Object> comparator
+    ) {
+        Class<?> type = getRawType(collectionType);
+        if (comparator != null
+            && SortedSet.class.isAssignableFrom(type)
+            && type.isAssignableFrom(TreeSet.class)) {
+            return new TreeSet<>(comparator);
+        }
+
+        return createCollection(collectionType, capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Optional<Collection<Object>> createUnmodifiableView(
+        Collection<?> source,
+        Type collectionType
+    ) {
+        Class<?> type = getRawType(collectionType);
+        if (source instanceof List<?> && type.isAssignableFrom(List.class)) {
+            return Optional.of(
+                java.util.Collections.unmodifiableList((List<?>) source)
+            );
+        } else if (source instanceof SortedSet<?>
+            && type.isAssignableFrom(SortedSet.class)) {
+            return Optional.of(java.util.Collections.unmodifiableSortedSet(
+                (SortedSet<Object>) source
+            ));
+        } else if (source instanceof Set<?>
+            && type.isAssignableFrom(Set.class)) {
+            return Optional.of(
+                java.util.Collections.unmodifiableSet((Set<?>) source)
+            );
+        } else if (type.isAssignableFrom(Collection.class)) {
+            return Optional.of(
+                java.util.Collections.unmodifiableCollection(source)
+            );
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    public static boolean isModifiable(Collection<?> collection) {
+        Class<?> type = collection.getClass();
+        return UNMODIFIABLE_TYPES.contains(type) == false
+            && type.getName().startsWith("java.util.ImmutableCollections$")
+                == false;
+    }
+
+    public static Class<?> getRawType(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType
+            && ((ParameterizedType) type).getRawType() instanceof Class<?>) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else {
+            throw new RuntimeException(
+                "Cannot resolve raw type from the type: " + type
+            );
+        }
+    }
+
+    private static IntFunction<Collection<Object>> createCollectionFactory(
+        Class<?> type
+    ) {
+        if (Collection.class.isAssignableFrom(type) && isConcrete(type)) {
+            return createConcreteFactory(type);
+        } else if (type.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return capacity -> new LinkedHashSet<>(getHashCapacity(capacity));
+        } else if (type.isAssignableFrom(TreeSet.class)) {
+            return capacity -> new TreeSet<>();
+        } else if (type.isAssignableFrom(LinkedList.class)) {
+            return capacity -> new LinkedList<>();
+        } else {
+            throw new RuntimeException(
+                "Cannot create a collection of the type: " + type
+            );
+        }
+    }
+
+    public static boolean isAssignable(Type type, Type targetType) {
+        if (type instanceof Class<?> && targetType instanceof Class<?>) {
+            return ((Class<?>) targetType).isAssignableFrom((Class<?>) type);
+        }
+
+        return type.equals(targetType);
+    }
+
+    public static boolean isConcrete(Class<?> type) {
+        return type.isInterface() == false
+            && Modifier.isAbstract(type.getModifiers()) == false;
+    }
+
+    private static IntFunction<Collection<Object>> createConcreteFactory(
+        Class<?> type
+    ) {
+        if (type.equals(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (type.equals(HashSet.class)) {
+            return capacity -> new HashSet<>(getHashCapacity(capacity));
+        } else if (type.equals(LinkedHashSet.class)) {
+            return capacity -> new LinkedHashSet<>(getHashCapacity(capacity));
+        } else if (type.equals(ArrayDeque.class)) {
+            return ArrayDeque::new;
+        }
+
+        Constructor<?> constructor = getDefaultConstructor(type);
+        return capacity -> instantiate(constructor);
+    }
+
+    public static int getHashCapacity(int capacity) {
+        return (int) (capacity / 0.75f) + 1;
+    }
+
+    private static Constructor<?> getDefaultConstructor(Class<?> type) {
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException exception) {
+            throw new RuntimeException(
+                "Cannot find a public default constructor of the collection"
+                    + " type: " + type,
+                exception
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> instantiate(Constructor<?> constructor) {
+        try {
+            return (Collection<Object>) constructor.newInstance();
+        } catch (Exception exception) {
+            throw new RuntimeException(exception);
+        }
+    }
 }
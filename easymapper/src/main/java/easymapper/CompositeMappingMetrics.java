@@ -0,0 +1,55 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+
+final class CompositeMappingMetrics implements MappingMetrics {
+
+    private final MappingMetrics[] metrics;
+
+    CompositeMappingMetrics(MappingMetrics... metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onStart(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        int depth
+    ) {
+        for (MappingMetrics listener : metrics) {
+            listener.onStart(operation, sourceType, targetType, depth);
+        }
+    }
+
+    @Override
+    public void onCompiled(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        long elapsedNanos
+    ) {
+        for (MappingMetrics listener : metrics) {
+            listener.onCompiled(operation, sourceType, targetType, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void onEnd(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        int depth,
+        long elapsedNanos
+    ) {
+        for (int i = metrics.length - 1; i >= 0; i--) {
+            metrics[i].onEnd(
+                operation,
+                sourceType,
+                targetType,
+                depth,
+                elapsedNanos
+            );
+        }
+    }
+}
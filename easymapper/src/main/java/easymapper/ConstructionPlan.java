@@ -0,0 +1,222 @@
+package easymapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.asList;
+
+final class ConstructionPlan {
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle APPLY = findApply();
+
+    private static final MethodHandle CHECK_ARGUMENT = findStatic(
+        "checkArgument",
+        methodType(Object.class, Class.class, boolean.class, Object.class)
+    );
+
+    private static final MethodHandle WRAP_EXCEPTION = findStatic(
+        "wrapException",
+        methodType(Object.class, Throwable.class)
+    );
+
+    private static final List<Class<?>> WIDENING_ORDER = asList(
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class
+    );
+
+    private final Constructor<?> constructor;
+    private final Function<Object, Object>[] arguments;
+    private final int compilationThreshold;
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private volatile MethodHandle compiled;
+
+    @SuppressWarnings("unchecked")
+    public ConstructionPlan(
+        Constructor<?> constructor,
+        List<Function<Object, Object>> arguments,
+        int compilationThreshold
+    ) {
+        this.constructor = constructor;
+        this.arguments = arguments.toArray(new Function[0]);
+        this.compilationThreshold = compilationThreshold;
+        if (compilationThreshold == 0) {
+            this.compiled = compile().orElse(null);
+        }
+    }
+
+    private static MethodHandle findApply() {
+        try {
+            return LOOKUP.findVirtual(
+                Function.class,
+                "apply",
+                methodType(Object.class, Object.class)
+            );
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static MethodHandle findStatic(String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(ConstructionPlan.class, name, type);
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public Object construct(Object source) {
+        MethodHandle compiled = this.compiled;
+        if (compiled != null) {
+            return invoke(compiled, source);
+        }
+
+        if (invocations.get() < compilationThreshold
+            && invocations.incrementAndGet() == compilationThreshold) {
+            this.compiled = compile().orElse(null);
+        }
+
+        return invoke(constructor, buildArguments(source));
+    }
+
+    public void prepare() {
+        if (compiled == null) {
+            compiled = compile().orElse(null);
+        }
+    }
+
+    private Optional<MethodHandle> compile() {
+        MethodHandle target;
+        try {
+            target = LOOKUP.unreflectConstructor(constructor).asFixedArity();
+        } catch (IllegalAccessException exception) {
+            return Optional.empty();
+        }
+
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        MethodHandle[] filters = new MethodHandle[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            MethodHandle check = MethodHandles.insertArguments(
+                CHECK_ARGUMENT,
+                0,
+                methodType(parameterType).wrap().returnType(),
+                parameterType.isPrimitive()
+            );
+            filters[i] = MethodHandles
+                .filterReturnValue(APPLY.bindTo(arguments[i]), check)
+                .asType(methodType(parameterType, Object.class));
+        }
+
+        target = MethodHandles.catchException(
+            target.asType(target.type().changeReturnType(Object.class)),
+            Throwable.class,
+            WRAP_EXCEPTION
+        );
+        MethodType type = methodType(Object.class, Object.class);
+        MethodHandle filtered = MethodHandles.filterArguments(
+            target,
+            0,
+            filters
+        );
+        return Optional.of(MethodHandles.permuteArguments(
+            filtered,
+            type,
+            new int[arguments.length]
+        ));
+    }
+
+    private static Object checkArgument(
+        Class<?> type,
+        boolean primitive,
+        Object value
+    ) {
+        if (value == null ? primitive == false : type.isInstance(value)) {
+            return value;
+        }
+
+        Object widened = primitive && value != null ? widen(type, value) : null;
+        if (widened == null) {
+            throw new RuntimeException(new IllegalArgumentException());
+        }
+
+        return widened;
+    }
+
+    private static Object widen(Class<?> type, Object value) {
+        Object number = value instanceof Character
+            ? Integer.valueOf((Character) value)
+            : value;
+        int from = WIDENING_ORDER.indexOf(number.getClass());
+        int to = WIDENING_ORDER.indexOf(type);
+        if (from < 0 || to < from) {
+            return null;
+        }
+
+        Number widened = (Number) number;
+        switch (to) {
+            case 1:
+                return widened.shortValue();
+            case 2:
+                return widened.intValue();
+            case 3:
+                return widened.longValue();
+            case 4:
+                return widened.floatValue();
+            case 5:
+                return widened.doubleValue();
+            default:
+                return widened;
+        }
+    }
+
+    private static Object wrapException(Throwable exception) {
+        throw new RuntimeException(new InvocationTargetException(exception));
+    }
+
+    private static Object invoke(MethodHandle compiled, Object source) {
+        try {
+            return (Object) compiled.invokeExact(source);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private Object[] buildArguments(Object source) {
+        Object[] values = new Object[arguments.length];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arguments[i].apply(source);
+        }
+
+        return values;
+    }
+
+    private static Object invoke(
+        Constructor<?> constructor,
+        Object[] arguments
+    ) {
+        try {
+            return constructor.newInstance(arguments);
+        } catch (Exception exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
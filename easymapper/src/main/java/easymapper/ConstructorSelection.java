@@ -0,0 +1,16 @@
+package easymapper;
+
+import java.lang.reflect.Constructor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+@AllArgsConstructor
+@Getter
+@Accessors(fluent = true)
+final class ConstructorSelection {
+
+    private final Constructor<?> constructor;
+    private final String[] propertyNames;
+}
@@ -0,0 +1,97 @@
+package easymapper;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.System.lineSeparator;
+import static java.util.Comparator.comparingInt;
+
+final class ConstructorSelector {
+
+    private final ConstructorExtractor constructorExtractor;
+    private final ParameterNameResolver parameterNameResolver;
+    private final ConcurrentMap<Class<?>, ConstructorSelection> selections =
+        new ConcurrentHashMap<>();
+
+    public ConstructorSelector(
+        ConstructorExtractor constructorExtractor,
+        ParameterNameResolver parameterNameResolver
+    ) {
+        this.constructorExtractor = constructorExtractor;
+        this.parameterNameResolver = parameterNameResolver;
+    }
+
+    public ConstructorSelection select(Type type) {
+        if (type instanceof ParameterizedType) {
+            return select(((ParameterizedType) type).getRawType());
+        } else if (type instanceof Class<?>) {
+            return select((Class<?>) type);
+        } else {
+            throw new RuntimeException(composeConstructorNotFoundMessage(type));
+        }
+    }
+
+    private static String composeConstructorNotFoundMessage(Type type) {
+        String newLine = lineSeparator();
+        return "Cannot provide constructor for the type: " + type
+            + newLine + "If you use Mapper to convert instances of generic classes, use the TypeReference<T> interface to specify the generic type."
+            + newLine
+            + newLine + "For example,"
+            + newLine
+            + newLine + "mapper.convert("
+            + newLine + "     source,"
+            + newLine + "     new TypeReference<DomainEvent<OrderPlaced>>() {},"
+            + newLine + "     new TypeReference<IntegrationEvent<OrderPlacedEvent>>() {});";
+    }
+
+    private ConstructorSelection select(Class<?> type) {
+        ConstructorSelection selection = selections.get(type);
+        return selection == null
+            ? selections.computeIfAbsent(type, this::createSelection)
+            : selection;
+    }
+
+    private ConstructorSelection createSelection(Class<?> type) {
+        Constructor<?> constructor = getConstructor(type);
+        return new ConstructorSelection(
+            constructor,
+            getPropertyNames(constructor)
+        );
+    }
+
+    private Constructor<?> getConstructor(Class<?> type) {
+        return constructorExtractor
+            .extract(type)
+            .stream()
+            .max(comparingInt(Constructor::getParameterCount))
+            .orElseThrow(() -> {
+                String message = "No constructor found for " + type;
+                return new RuntimeException(message);
+            });
+    }
+
+    private String[] getPropertyNames(Constructor<?> constructor) {
+        return parameterNameResolver
+            .tryResolveNames(constructor)
+            .orElseGet(() -> getAnnotatedPropertyNames(constructor));
+    }
+
+    private static String[] getAnnotatedPropertyNames(
+        Constructor<?> constructor
+    ) {
+        ConstructorProperties annotation = constructor
+            .getAnnotation(ConstructorProperties.class);
+
+        if (annotation == null) {
+            String message = "The constructor " + constructor
+                + " is not decorated with @ConstructorProperties annotation.";
+            throw new RuntimeException(message);
+        } else {
+            return annotation.value();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package easymapper;
+
+@FunctionalInterface
+interface ContainerConverter extends ObjectConverter {
+}
@@ -7,6 +7,6 @@ public interface Converter<S, T> {
 
     @SuppressWarnings("unchecked")
     static <S, T> Converter<S, T> identity() {
-        return (source, context) -> (T) source;
+        return (Converter<S, T>) (Converter<?, ?>) IdentityConverter.INSTANCE;
     }
 }
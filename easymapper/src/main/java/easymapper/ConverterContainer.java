@@ -1,14 +1,20 @@
 package easymapper;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 
 class ConverterContainer {
 
@@ -19,22 +25,76 @@ class ConverterContainer {
 
         private final MappingTypePredicate predicate;
         private final ObjectConverter converter;
+        private final Converter<?, ?> origin;
     }
 
     private final List<Entry> entries;
+    private final Map<TypePair, Integer> exactEntries;
+    private final int[] fallbackEntries;
+    private final ConcurrentMap<TypePair, Optional<ObjectConverter>>
+        resolutions = new ConcurrentHashMap<>();
 
     public ConverterContainer(List<Entry> entries) {
-        this.entries = unmodifiableList(entries);
+        this.entries = unmodifiableList(new ArrayList<>(entries));
+
+        Map<TypePair, Integer> exactEntries = new HashMap<>();
+        List<Integer> fallbackEntries = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Optional<TypePair> exactTypes = entries
+                .get(i)
+                .predicate()
+                .exactTypes();
+            if (exactTypes.isPresent()) {
+                exactEntries.put(exactTypes.get(), i);
+            } else {
+                fallbackEntries.add(i);
+            }
+        }
+
+        this.exactEntries = unmodifiableMap(exactEntries);
+        this.fallbackEntries = fallbackEntries
+            .stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
     }
 
     public Optional<ObjectConverter> find(Type sourceType, Type targetType) {
-        for (int i = entries.size() - 1; i >= 0; i--) {
-            Entry entry = entries.get(i);
-            if (entry.predicate().test(sourceType, targetType)) {
-                return Optional.of(entry.converter());
+        TypePair key = new TypePair(sourceType, targetType);
+        Optional<ObjectConverter> resolution = resolutions.get(key);
+        return resolution == null
+            ? resolutions.computeIfAbsent(key, this::resolve)
+            : resolution;
+    }
+
+    public Optional<Converter<?, ?>> findOrigin(
+        Type sourceType,
+        Type targetType
+    ) {
+        TypePair key = new TypePair(sourceType, targetType);
+        return resolveEntry(key).map(Entry::origin);
+    }
+
+    private Optional<ObjectConverter> resolve(TypePair key) {
+        return resolveEntry(key).map(Entry::converter);
+    }
+
+    private Optional<Entry> resolveEntry(TypePair key) {
+        int exactEntry = exactEntries.getOrDefault(key, -1);
+
+        for (int i = fallbackEntries.length - 1; i >= 0; i--) {
+            int index = fallbackEntries[i];
+            if (index < exactEntry) {
+                break;
+            }
+
+            Entry entry = entries.get(index);
+            if (entry.predicate().test(key.sourceType(), key.targetType())) {
+                return Optional.of(entry);
             }
         }
 
-        return Optional.empty();
+        return exactEntry < 0
+            ? Optional.empty()
+            : Optional.of(entries.get(exactEntry));
     }
 }
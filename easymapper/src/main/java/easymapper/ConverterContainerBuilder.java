@@ -20,7 +20,8 @@ class ConverterContainerBuilder {
                     sourceTypePredicate,
                     targetTypePredicate
                 ),
-                ObjectConverter.from(converter)
+                ObjectConverter.from(converter),
+                converter
             )
         );
     }
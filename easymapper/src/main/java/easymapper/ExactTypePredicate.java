@@ -0,0 +1,22 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+@AllArgsConstructor
+@Getter
+@Accessors(fluent = true)
+final class ExactTypePredicate implements TypePredicate {
+
+    @NonNull
+    private final Class<?> type;
+
+    @Override
+    public boolean test(Type type) {
+        return this.type.equals(type);
+    }
+}
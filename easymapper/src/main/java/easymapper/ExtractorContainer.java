@@ -4,6 +4,8 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,9 +24,14 @@ class ExtractorContainer {
 
         private final MappingTypePredicate predicate;
         private final ObjectExtractor extractor;
+        private final Extractor<?, ?> origin;
     }
 
     private final Map<String, List<Entry>> entries;
+    private final Map<String, ConcurrentMap<TypePair, Optional<ObjectExtractor>>>
+        resolutions;
+    private final ConcurrentMap<TypePair, Boolean> existences =
+        new ConcurrentHashMap<>();
 
     public ExtractorContainer(Map<String, List<Entry>> entries) {
         this.entries = unmodifiableMap(
@@ -35,6 +42,14 @@ class ExtractorContainer {
                 )
             )
         );
+        this.resolutions = unmodifiableMap(
+            entries.keySet().stream().collect(
+                toMap(
+                    key -> key,
+                    key -> new ConcurrentHashMap<>()
+                )
+            )
+        );
     }
 
     public Optional<ObjectExtractor> find(
@@ -42,20 +57,74 @@ class ExtractorContainer {
         Type targetType,
         String targetPropertyName
     ) {
-        return Optional
-            .ofNullable(entries.get(targetPropertyName))
-            .flatMap(list -> find(list, sourceType, targetType));
+        ConcurrentMap<TypePair, Optional<ObjectExtractor>> resolutions =
+            this.resolutions.get(targetPropertyName);
+        if (resolutions == null) {
+            return Optional.empty();
+        }
+
+        TypePair key = new TypePair(sourceType, targetType);
+        Optional<ObjectExtractor> resolution = resolutions.get(key);
+        return resolution == null
+            ? resolutions.computeIfAbsent(key, k -> find(
+                entries.get(targetPropertyName),
+                k.sourceType(),
+                k.targetType()
+            ))
+            : resolution;
+    }
+
+    public Optional<Extractor<?, ?>> findOrigin(
+        Type sourceType,
+        Type targetType,
+        String targetPropertyName
+    ) {
+        List<Entry> entries = this.entries.get(targetPropertyName);
+        if (entries == null) {
+            return Optional.empty();
+        }
+
+        return findEntry(entries, sourceType, targetType).map(Entry::origin);
+    }
+
+    public boolean any(Type sourceType, Type targetType) {
+        TypePair key = new TypePair(sourceType, targetType);
+        Boolean existence = existences.get(key);
+        return existence == null
+            ? existences.computeIfAbsent(key, this::exists)
+            : existence;
+    }
+
+    private boolean exists(TypePair key) {
+        for (String targetPropertyName : entries.keySet()) {
+            Type sourceType = key.sourceType();
+            Type targetType = key.targetType();
+            if (find(sourceType, targetType, targetPropertyName).isPresent()) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private static Optional<ObjectExtractor> find(
         List<Entry> entries,
         Type sourceType,
         Type targetType
+    ) {
+        return findEntry(entries, sourceType, targetType)
+            .map(Entry::extractor);
+    }
+
+    private static Optional<Entry> findEntry(
+        List<Entry> entries,
+        Type sourceType,
+        Type targetType
     ) {
         for (int i = entries.size() - 1; i >= 0; i--) {
             Entry entry = entries.get(i);
             if (entry.predicate().test(sourceType, targetType)) {
-                return Optional.of(entry.extractor());
+                return Optional.of(entry);
             }
         }
 
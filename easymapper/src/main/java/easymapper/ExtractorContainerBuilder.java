@@ -28,7 +28,8 @@ class ExtractorContainerBuilder {
                     sourceTypePredicate,
                     propertyTypePredicate
                 ),
-                ObjectExtractor.from(extractor)
+                ObjectExtractor.from(extractor),
+                extractor
             )
         );
     }
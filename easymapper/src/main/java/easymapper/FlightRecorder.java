@@ -0,0 +1,20 @@
+package easymapper;
+
+import java.util.Optional;
+
+class FlightRecorder {
+
+    private static final String METRICS_CLASS_NAME =
+        "easymapper.FlightRecorderMetrics";
+
+    public static Optional<MappingMetrics> createMetrics() {
+        try {
+            return Optional.of((MappingMetrics) Class
+                .forName(METRICS_CLASS_NAME)
+                .getDeclaredConstructor()
+                .newInstance());
+        } catch (ReflectiveOperationException | LinkageError exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package easymapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@Repeatable(GenerateMappings.class)
+public @interface GenerateMapping {
+
+    Class<?> source();
+
+    Class<?> target();
+}
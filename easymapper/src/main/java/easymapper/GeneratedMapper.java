@@ -0,0 +1,17 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+import static java.util.Collections.emptyList;
+
+public interface GeneratedMapper<S, T> extends Converter<S, T> {
+
+    Class<S> sourceType();
+
+    Class<T> targetType();
+
+    default Collection<Type> identityTypes() {
+        return emptyList();
+    }
+}
@@ -0,0 +1,98 @@
+package easymapper;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableMap;
+
+class GeneratedMapperContainer {
+
+    private static final Logger LOGGER =
+        Logger.getLogger(GeneratedMapperContainer.class.getName());
+
+    private static final
+        Map<ClassLoader, WeakReference<GeneratedMapperContainer>> LOADED =
+        new WeakHashMap<>();
+
+    private final Map<TypePair, GeneratedMapper<?, ?>> mappers;
+
+    private GeneratedMapperContainer(
+        Map<TypePair, GeneratedMapper<?, ?>> mappers
+    ) {
+        this.mappers = unmodifiableMap(mappers);
+    }
+
+    public static GeneratedMapperContainer empty() {
+        return new GeneratedMapperContainer(new HashMap<>());
+    }
+
+    public static GeneratedMapperContainer load(ClassLoader classLoader) {
+        ClassLoader loader = classLoader == null
+            ? GeneratedMapper.class.getClassLoader()
+            : classLoader;
+
+        synchronized (LOADED) {
+            WeakReference<GeneratedMapperContainer> reference =
+                LOADED.get(loader);
+            GeneratedMapperContainer container =
+                reference == null ? null : reference.get();
+            if (container == null) {
+                container = scan(loader);
+                LOADED.put(loader, new WeakReference<>(container));
+            }
+
+            return container;
+        }
+    }
+
+    private static GeneratedMapperContainer scan(ClassLoader loader) {
+        Map<TypePair, GeneratedMapper<?, ?>> mappers = new HashMap<>();
+
+        Iterator<GeneratedMapper> iterator = ServiceLoader.load(
+            GeneratedMapper.class,
+            loader
+        ).iterator();
+        while (true) {
+            GeneratedMapper<?, ?> mapper;
+            try {
+                if (iterator.hasNext() == false) {
+                    break;
+                }
+
+                mapper = iterator.next();
+            } catch (ServiceConfigurationError error) {
+                LOGGER.log(
+                    Level.WARNING,
+                    "Cannot load a generated mapper from " + loader + ".",
+                    error
+                );
+                continue;
+            }
+
+            mappers.put(
+                new TypePair(mapper.sourceType(), mapper.targetType()),
+                mapper
+            );
+        }
+
+        return new GeneratedMapperContainer(mappers);
+    }
+
+    public Optional<GeneratedMapper<?, ?>> find(
+        Type sourceType,
+        Type targetType
+    ) {
+        return Optional.ofNullable(
+            mappers.get(new TypePair(sourceType, targetType))
+        );
+    }
+}
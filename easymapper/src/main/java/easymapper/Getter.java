@@ -23,15 +23,35 @@ class Getter {
         return new Getter(
             method.getGenericReturnType(),
             method.getName(),
-            instance -> {
-                try {
-                    return method.invoke(instance);
-                } catch (IllegalAccessException
-                     | IllegalArgumentException
-                     | InvocationTargetException exception) {
-                    throw new RuntimeException(exception);
-                }
-            });
+            AccessorFactory
+                .tryCreateGetter(method)
+                .map(Getter::propagateExceptions)
+                .orElseGet(() -> instance -> invoke(method, instance))
+        );
+    }
+
+    private static Function<Object, Object> propagateExceptions(
+        Function<Object, Object> function
+    ) {
+        return instance -> {
+            try {
+                return function.apply(instance);
+            } catch (Throwable exception) {
+                throw new RuntimeException(
+                    new InvocationTargetException(exception)
+                );
+            }
+        };
+    }
+
+    private static Object invoke(Method method, Object instance) {
+        try {
+            return method.invoke(instance);
+        } catch (IllegalAccessException
+             | IllegalArgumentException
+             | InvocationTargetException exception) {
+            throw new RuntimeException(exception);
+        }
     }
 
     public Type type() {
@@ -0,0 +1,18 @@
+package easymapper;
+
+final class IdentityConverter implements ObjectConverter {
+
+    public static final IdentityConverter INSTANCE = instance();
+
+    private static IdentityConverter instance() {
+        return new IdentityConverter();
+    }
+
+    private IdentityConverter() {
+    }
+
+    @Override
+    public Object convert(Object source, MappingContext context) {
+        return source;
+    }
+}
@@ -0,0 +1,48 @@
+package easymapper;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class LazyMappedList
+    extends AbstractList<Object>
+    implements RandomAccess {
+
+    private static final Object NULL = new Object();
+
+    private final Object[] source;
+    private final MappingContext elementMappingContext;
+    private final AtomicReferenceArray<Object> elements;
+
+    LazyMappedList(Object[] source, MappingContext elementMappingContext) {
+        this.source = source;
+        this.elementMappingContext = elementMappingContext;
+        this.elements = new AtomicReferenceArray<>(source.length);
+    }
+
+    @Override
+    public Object get(int index) {
+        Object element = elements.get(index);
+        if (element == null) {
+            element = convert(index);
+        }
+
+        return element == NULL ? null : element;
+    }
+
+    private Object convert(int index) {
+        Object element = elementMappingContext.convert(source[index]);
+        if (element == null) {
+            element = NULL;
+        }
+
+        return elements.compareAndSet(index, null, element)
+            ? element
+            : elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.length();
+    }
+}
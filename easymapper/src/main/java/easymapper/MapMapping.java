@@ -0,0 +1,71 @@
+package easymapper;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SortedMap;
+
+import static easymapper.Collections.isAssignable;
+import static easymapper.Maps.createMap;
+import static easymapper.Maps.resolveKeyType;
+import static easymapper.Maps.resolveValueType;
+
+class MapMapping {
+
+    public static void configure(MapperConfigurationBuilder config) {
+        TypePredicate isMap = Maps::isMap;
+        ContainerConverter convert = MapMapping::convert;
+        config.addConverter(isMap, isMap, convert);
+        config.addProjector(isMap, isMap, Projector.empty());
+    }
+
+    private static Object convert(Object source, MappingContext context) {
+        return source == null ? null : convert((Map<?, ?>) source, context);
+    }
+
+    private static Object convert(Map<?, ?> source, MappingContext context) {
+        MappingContext keyMappingContext = context.branch(
+            resolveKeyType(context.getSourceType()),
+            resolveKeyType(context.getTargetType()));
+        MappingContext valueMappingContext = context.branch(
+            resolveValueType(context.getSourceType()),
+            resolveValueType(context.getTargetType()));
+
+        Map<Object, Object> target = createMap(
+            context.getTargetType(),
+            source.size(),
+            getComparator(source, keyMappingContext));
+
+        boolean keyIdentity = keyMappingContext.isIdentity();
+        boolean valueIdentity = valueMappingContext.isIdentity();
+        if (keyIdentity && valueIdentity) {
+            target.putAll(source);
+            return target;
+        }
+
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            target.put(
+                keyIdentity
+                    ? entry.getKey()
+                    : keyMappingContext.convert(entry.getKey()),
+                valueIdentity
+                    ? entry.getValue()
+                    : valueMappingContext.convert(entry.getValue()));
+        }
+
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> getComparator(
+        Map<?, ?> source,
+        MappingContext keyMappingContext
+    ) {
+        boolean comparable = source instanceof SortedMap<?, ?>
+            && isAssignable(
+                keyMappingContext.getTargetType(),
+                keyMappingContext.getSourceType());
+        return comparable
+            ? ((SortedMap<Object, ?>) source).comparator()
+            : null;
+    }
+}
@@ -0,0 +1,30 @@
+package easymapper;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+final class MappedIterator<T> implements Iterator<T> {
+
+    private final Iterator<?> source;
+    private final Function<Object, T> converter;
+
+    MappedIterator(Iterator<?> source, Function<Object, T> converter) {
+        this.source = source;
+        this.converter = converter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return converter.apply(source.next());
+    }
+
+    @Override
+    public void remove() {
+        source.remove();
+    }
+}
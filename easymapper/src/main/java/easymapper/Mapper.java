@@ -1,14 +1,19 @@
 package easymapper;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import lombok.NonNull;
-import lombok.val;
 
 public class Mapper {
 
-    private final MappingConfiguration configuration;
+    private final MappingPlanCache plans;
 
     @SuppressWarnings("unused")
     public Mapper() {
@@ -20,7 +25,7 @@ public class Mapper {
             .apply(BaseConfiguration::configure)
             .apply(configure);
 
-        configuration = builder.build();
+        plans = new MappingPlanCache(builder.build());
     }
 
     public <S, T> T convert(
@@ -50,8 +55,174 @@ public class Mapper {
 
     @SuppressWarnings("unchecked")
     private <S, T> T convertObject(S source, Type sourceType, Type targetType) {
-        val context = new MappingContext(configuration, sourceType, targetType);
-        return (T) context.convert(source);
+        return (T) plans.get(sourceType, targetType).convert(source);
+    }
+
+    public <S, T> List<T> convertAll(
+        @NonNull Iterable<S> source,
+        @NonNull Class<S> sourceType,
+        @NonNull Class<T> targetType
+    ) {
+        return convertAllObjects(source, sourceType, targetType);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S, T> List<T> convertAll(
+        @NonNull Iterable<S> source,
+        @NonNull Class<T> targetType
+    ) {
+        List<T> target = new ArrayList<>(getSizeHint(source));
+        MappingPlan plan = null;
+        for (S element : source) {
+            if (element == null) {
+                target.add(null);
+                continue;
+            }
+
+            if (plan == null || plan.sourceType() != element.getClass()) {
+                plan = plans.get(element.getClass(), targetType);
+            }
+
+            target.add((T) plan.convert(element));
+        }
+
+        return target;
+    }
+
+    public <S, T> List<T> convertAll(
+        @NonNull Iterable<S> source,
+        @NonNull TypeReference<S> sourceTypeReference,
+        @NonNull TypeReference<T> targetTypeReference
+    ) {
+        Type sourceType = sourceTypeReference.getType();
+        Type targetType = targetTypeReference.getType();
+        return convertAllObjects(source, sourceType, targetType);
+    }
+
+    public <S, T> void convertAll(
+        @NonNull Iterable<S> source,
+        @NonNull Class<S> sourceType,
+        @NonNull Class<T> targetType,
+        @NonNull Collection<? super T> target
+    ) {
+        convertAllObjects(source, sourceType, targetType, target);
+    }
+
+    public <S, T> void convertAll(
+        @NonNull Iterable<S> source,
+        @NonNull TypeReference<S> sourceTypeReference,
+        @NonNull TypeReference<T> targetTypeReference,
+        @NonNull Collection<? super T> target
+    ) {
+        Type sourceType = sourceTypeReference.getType();
+        Type targetType = targetTypeReference.getType();
+        convertAllObjects(source, sourceType, targetType, target);
+    }
+
+    private <S, T> List<T> convertAllObjects(
+        Iterable<S> source,
+        Type sourceType,
+        Type targetType
+    ) {
+        List<T> target = new ArrayList<>(getSizeHint(source));
+        convertAllObjects(source, sourceType, targetType, target);
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S, T> void convertAllObjects(
+        Iterable<S> source,
+        Type sourceType,
+        Type targetType,
+        Collection<? super T> target
+    ) {
+        if (target instanceof ArrayList<?>) {
+            ((ArrayList<?>) target).ensureCapacity(
+                target.size() + getSizeHint(source)
+            );
+        }
+
+        MappingPlan plan = plans.get(sourceType, targetType);
+        for (S element : source) {
+            target.add((T) plan.convert(element));
+        }
+    }
+
+    private static int getSizeHint(Iterable<?> source) {
+        return source instanceof Collection<?>
+            ? ((Collection<?>) source).size()
+            : 10;
+    }
+
+    public <S, T> Stream<T> stream(
+        @NonNull Stream<S> source,
+        @NonNull Class<S> sourceType,
+        @NonNull Class<T> targetType
+    ) {
+        return source.map(getElementConverter(sourceType, targetType));
+    }
+
+    public <S, T> Stream<T> stream(
+        @NonNull Stream<S> source,
+        @NonNull Class<T> targetType
+    ) {
+        return source.map(getElementConverter(targetType));
+    }
+
+    public <S, T> Stream<T> stream(
+        @NonNull Stream<S> source,
+        @NonNull TypeReference<S> sourceTypeReference,
+        @NonNull TypeReference<T> targetTypeReference
+    ) {
+        Type sourceType = sourceTypeReference.getType();
+        Type targetType = targetTypeReference.getType();
+        return source.map(getElementConverter(sourceType, targetType));
+    }
+
+    public <S, T> Iterator<T> iterator(
+        @NonNull Iterator<S> source,
+        @NonNull Class<S> sourceType,
+        @NonNull Class<T> targetType
+    ) {
+        return new MappedIterator<>(
+            source,
+            getElementConverter(sourceType, targetType)
+        );
+    }
+
+    public <S, T> Iterator<T> iterator(
+        @NonNull Iterator<S> source,
+        @NonNull Class<T> targetType
+    ) {
+        return new MappedIterator<>(source, getElementConverter(targetType));
+    }
+
+    public <S, T> Iterator<T> iterator(
+        @NonNull Iterator<S> source,
+        @NonNull TypeReference<S> sourceTypeReference,
+        @NonNull TypeReference<T> targetTypeReference
+    ) {
+        Type sourceType = sourceTypeReference.getType();
+        Type targetType = targetTypeReference.getType();
+        return new MappedIterator<>(
+            source,
+            getElementConverter(sourceType, targetType)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Function<Object, T> getElementConverter(
+        Type sourceType,
+        Type targetType
+    ) {
+        MappingPlan plan = plans.get(sourceType, targetType);
+        return element -> (T) plan.convert(element);
+    }
+
+    private <T> Function<Object, T> getElementConverter(Class<T> targetType) {
+        return element -> element == null
+            ? null
+            : convertObject(element, element.getClass(), targetType);
     }
 
     public <S, T> void project(
@@ -84,7 +255,57 @@ public class Mapper {
         Type sourceType,
         Type targetType
     ) {
-        val context = new MappingContext(configuration, sourceType, targetType);
-        context.project(source, target);
+        plans.get(sourceType, targetType).project(source, target);
+    }
+
+    public <S, T> MappingExplanation explain(
+        @NonNull Class<S> sourceType,
+        @NonNull Class<T> targetType
+    ) {
+        return explainMapping(sourceType, targetType);
+    }
+
+    public <S, T> MappingExplanation explain(
+        @NonNull TypeReference<S> sourceTypeReference,
+        @NonNull TypeReference<T> targetTypeReference
+    ) {
+        Type sourceType = sourceTypeReference.getType();
+        Type targetType = targetTypeReference.getType();
+        return explainMapping(sourceType, targetType);
+    }
+
+    private MappingExplanation explainMapping(
+        Type sourceType,
+        Type targetType
+    ) {
+        return new MappingExplainer(plans).explain(
+            MappingOperation.CONVERT,
+            sourceType,
+            targetType
+        );
+    }
+
+    public <S, T> void prepare(
+        @NonNull Class<S> sourceType,
+        @NonNull Class<T> targetType
+    ) {
+        new MappingPreparer(plans).prepare(sourceType, targetType);
+    }
+
+    public <S, T> void prepare(
+        @NonNull TypeReference<S> sourceTypeReference,
+        @NonNull TypeReference<T> targetTypeReference
+    ) {
+        Type sourceType = sourceTypeReference.getType();
+        Type targetType = targetTypeReference.getType();
+        new MappingPreparer(plans).prepare(sourceType, targetType);
+    }
+
+    public void prepareAll(
+        @NonNull Consumer<MappingPreparationBuilder> configure
+    ) {
+        MappingPreparationBuilder builder = new MappingPreparationBuilder();
+        configure.accept(builder);
+        new MappingPreparer(plans).prepareAll(builder.typePairs());
     }
 }
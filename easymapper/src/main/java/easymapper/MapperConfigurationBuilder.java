@@ -1,6 +1,11 @@
 package easymapper;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -13,6 +18,16 @@ public final class MapperConfigurationBuilder {
 
     private ConstructorExtractor constructorExtractor;
     private ParameterNameResolver parameterNameResolver;
+    private int compilationThreshold;
+    private CollectionPassThrough collectionPassThrough;
+    private boolean lazyCollections;
+    private int parallelThreshold;
+    private Executor parallelExecutor;
+    private CollectionProjection collectionProjection;
+    private final Map<Class<?>, Function<Object, Object>> elementKeys;
+    private MappingMetrics metrics;
+    private boolean flightRecorderEnabled;
+    private ClassLoader generatedMapperClassLoader;
     private final ConverterContainerBuilder converters;
     private final ProjectorContainerBuilder projectors;
     private final ExtractorContainerBuilder extractors;
@@ -20,6 +35,17 @@ public final class MapperConfigurationBuilder {
     MapperConfigurationBuilder() {
         constructorExtractor = DefaultConstructorExtractor.INSTANCE;
         parameterNameResolver = DefaultParameterNameResolver.INSTANCE;
+        compilationThreshold = 1000;
+        collectionPassThrough = CollectionPassThrough.COPY;
+        lazyCollections = false;
+        parallelThreshold = Integer.MAX_VALUE;
+        parallelExecutor = ForkJoinPool.commonPool();
+        collectionProjection = CollectionProjection.NONE;
+        elementKeys = new HashMap<>();
+        metrics = null;
+        flightRecorderEnabled = false;
+        generatedMapperClassLoader =
+            Thread.currentThread().getContextClassLoader();
         converters = new ConverterContainerBuilder();
         projectors = new ProjectorContainerBuilder();
         extractors = new ExtractorContainerBuilder();
@@ -46,6 +72,85 @@ public final class MapperConfigurationBuilder {
         return this;
     }
 
+    public MapperConfigurationBuilder setCompilationThreshold(int value) {
+        if (value < 0) {
+            String message = "The compilation threshold cannot be negative.";
+            throw new IllegalArgumentException(message);
+        }
+
+        compilationThreshold = value;
+        return this;
+    }
+
+    public MapperConfigurationBuilder setCollectionPassThrough(
+        @NonNull CollectionPassThrough value
+    ) {
+        collectionPassThrough = value;
+        return this;
+    }
+
+    public MapperConfigurationBuilder setLazyCollections(boolean value) {
+        lazyCollections = value;
+        return this;
+    }
+
+    public MapperConfigurationBuilder setParallelThreshold(int value) {
+        if (value < 1) {
+            String message = "The parallel threshold must be positive.";
+            throw new IllegalArgumentException(message);
+        }
+
+        parallelThreshold = value;
+        return this;
+    }
+
+    public MapperConfigurationBuilder setParallelExecutor(
+        @NonNull Executor value
+    ) {
+        parallelExecutor = value;
+        return this;
+    }
+
+    public MapperConfigurationBuilder setCollectionProjection(
+        @NonNull CollectionProjection value
+    ) {
+        collectionProjection = value;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> MapperConfigurationBuilder addElementKey(
+        @NonNull Class<E> elementType,
+        @NonNull Function<? super E, ?> keyExtractor
+    ) {
+        elementKeys.put(
+            elementType,
+            element -> keyExtractor.apply((E) element)
+        );
+        return this;
+    }
+
+    public MapperConfigurationBuilder setMetrics(
+        @NonNull MappingMetrics value
+    ) {
+        metrics = value;
+        return this;
+    }
+
+    public MapperConfigurationBuilder setFlightRecorderEnabled(
+        boolean value
+    ) {
+        flightRecorderEnabled = value;
+        return this;
+    }
+
+    public MapperConfigurationBuilder setGeneratedMapperClassLoader(
+        @NonNull ClassLoader value
+    ) {
+        generatedMapperClassLoader = value;
+        return this;
+    }
+
     public <S, T> MapperConfigurationBuilder addConverter(
         @NonNull Class<S> sourceType,
         @NonNull Class<T> targetType,
@@ -1,30 +1,96 @@
 package easymapper;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
+import static java.util.Collections.unmodifiableMap;
+
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 @Accessors(fluent = true)
 class MappingConfiguration {
 
-    private final ConstructorExtractor constructorExtractor;
-    private final ParameterNameResolver parameterNameResolver;
+    private final ConstructorSelector constructors;
     private final ConverterContainer converters;
     private final ProjectorContainer projectors;
     private final ExtractorContainer extractors;
+    private final int compilationThreshold;
+    private final CollectionPassThrough collectionPassThrough;
+    private final boolean lazyCollections;
+    private final int parallelThreshold;
+    private final Executor parallelExecutor;
+    private final CollectionProjection collectionProjection;
+    private final Map<Class<?>, Function<Object, Object>> elementKeys;
+    private final MappingMetrics metrics;
+    private final GeneratedMapperContainer generatedMappers;
 
     public static MappingConfiguration build(
         MapperConfigurationBuilder config
     ) {
         return new MappingConfiguration(
-            config.constructorExtractor(),
-            config.parameterNameResolver(),
+            new ConstructorSelector(
+                config.constructorExtractor(),
+                config.parameterNameResolver()
+            ),
             config.converters().build(),
             config.projectors().build(),
-            config.extractors().build()
+            config.extractors().build(),
+            config.compilationThreshold(),
+            config.collectionPassThrough(),
+            config.lazyCollections(),
+            config.parallelThreshold(),
+            config.parallelExecutor(),
+            config.collectionProjection(),
+            unmodifiableMap(new HashMap<>(config.elementKeys())),
+            buildMetrics(config),
+            loadGeneratedMappers(config)
         );
     }
+
+    public Optional<Function<Object, Object>> findElementKey(Class<?> type) {
+        for (Class<?> t = type; t != null; t = t.getSuperclass()) {
+            Function<Object, Object> key = elementKeys.get(t);
+            if (key != null) {
+                return Optional.of(key);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static GeneratedMapperContainer loadGeneratedMappers(
+        MapperConfigurationBuilder config
+    ) {
+        boolean defaultConstruction = config.constructorExtractor()
+                == DefaultConstructorExtractor.INSTANCE
+            && config.parameterNameResolver()
+                == DefaultParameterNameResolver.INSTANCE;
+        return defaultConstruction
+            ? GeneratedMapperContainer.load(config.generatedMapperClassLoader())
+            : GeneratedMapperContainer.empty();
+    }
+
+    private static MappingMetrics buildMetrics(
+        MapperConfigurationBuilder config
+    ) {
+        MappingMetrics metrics = config.metrics();
+        if (config.flightRecorderEnabled() == false) {
+            return metrics;
+        }
+
+        return FlightRecorder
+            .createMetrics()
+            .map(recorder -> metrics == null
+                ? recorder
+                : new CompositeMappingMetrics(metrics, recorder))
+            .orElse(metrics);
+    }
 }
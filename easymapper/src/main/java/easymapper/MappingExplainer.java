@@ -0,0 +1,434 @@
+package easymapper;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+
+class MappingExplainer {
+
+    private final MappingPlanCache plans;
+    private final MappingConfiguration configuration;
+    private final Map<MappingOperation, Map<TypePair, MappingExplanation>>
+        explanations = new EnumMap<>(MappingOperation.class);
+    private final Map<MappingOperation, Set<TypePair>> ancestors =
+        new EnumMap<>(MappingOperation.class);
+
+    public MappingExplainer(MappingPlanCache plans) {
+        this.plans = plans;
+        this.configuration = plans.configuration();
+        for (MappingOperation operation : MappingOperation.values()) {
+            explanations.put(operation, new HashMap<>());
+            ancestors.put(operation, new HashSet<>());
+        }
+    }
+
+    public MappingExplanation explain(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType
+    ) {
+        TypePair key = new TypePair(sourceType, targetType);
+        MappingExplanation explanation = explanations.get(operation).get(key);
+        if (explanation != null) {
+            return explanation;
+        }
+
+        if (ancestors.get(operation).add(key) == false) {
+            return new MappingExplanation(
+                operation,
+                sourceType,
+                targetType,
+                MappingStrategy.RECURSION,
+                null,
+                null,
+                emptyList(),
+                emptyList()
+            );
+        }
+
+        try {
+            explanation = operation == MappingOperation.CONVERT
+                ? explainConversion(sourceType, targetType)
+                : explainProjection(sourceType, targetType);
+        } finally {
+            ancestors.get(operation).remove(key);
+        }
+
+        explanations.get(operation).put(key, explanation);
+        return explanation;
+    }
+
+    private MappingExplanation explainConversion(
+        Type sourceType,
+        Type targetType
+    ) {
+        Projector<?, ?> projector = configuration
+            .projectors()
+            .findOrigin(sourceType, targetType)
+            .orElse(null);
+
+        Optional<Converter<?, ?>> converter = configuration
+            .converters()
+            .findOrigin(sourceType, targetType);
+        if (converter.isPresent()) {
+            return new MappingExplanation(
+                MappingOperation.CONVERT,
+                sourceType,
+                targetType,
+                MappingStrategy.CONVERTER,
+                converter.get(),
+                projector,
+                emptyList(),
+                explainElements(sourceType, targetType, converter.get())
+            );
+        }
+
+        MappingPlan plan = plans.get(sourceType, targetType);
+        Optional<GeneratedMapper<?, ?>> generatedMapper =
+            plan.findGeneratedMapper();
+        if (generatedMapper.isPresent()) {
+            return new MappingExplanation(
+                MappingOperation.CONVERT,
+                sourceType,
+                targetType,
+                MappingStrategy.GENERATED_MAPPER,
+                generatedMapper.get(),
+                projector,
+                emptyList(),
+                emptyList()
+            );
+        }
+
+        if (plan.isCloneable()) {
+            return explainClone(targetType);
+        }
+
+        List<PropertyExplanation> properties = new ArrayList<>();
+        for (String propertyName : configuration
+            .constructors()
+            .select(targetType)
+            .propertyNames()) {
+            properties.add(
+                explainArgument(sourceType, targetType, propertyName)
+            );
+        }
+
+        if (projector == null) {
+            explainProjectionSteps(sourceType, targetType, properties);
+        }
+
+        return new MappingExplanation(
+            MappingOperation.CONVERT,
+            sourceType,
+            targetType,
+            MappingStrategy.CONSTRUCTION,
+            null,
+            projector,
+            unmodifiableList(properties),
+            emptyList()
+        );
+    }
+
+    private MappingExplanation explainClone(Type type) {
+        Properties properties = Properties.get(type);
+        String[] propertyNames = configuration
+            .constructors()
+            .select(type)
+            .propertyNames();
+
+        List<PropertyExplanation> explanations = new ArrayList<>();
+        for (String propertyName : propertyNames) {
+            Property property = properties.get(propertyName);
+            explanations.add(explainSourceProperty(
+                PropertyStrategy.CONSTRUCTOR_ARGUMENT,
+                MappingOperation.CONVERT,
+                type,
+                property,
+                property
+            ));
+        }
+
+        Set<String> copiedNames = new HashSet<>(asList(propertyNames));
+        properties.useWritableProperties(property -> {
+            if (copiedNames.contains(property.name()) == false) {
+                explanations.add(explainSourceProperty(
+                    PropertyStrategy.SETTER,
+                    MappingOperation.CONVERT,
+                    type,
+                    property,
+                    property
+                ));
+            }
+        });
+        properties.useReadOnlyProperties(property -> {
+            if (copiedNames.contains(property.name()) == false
+                && plans.get(property.type(), property.type()).isIdentity()
+                    == false) {
+                explanations.add(explainSourceProperty(
+                    PropertyStrategy.READ_ONLY_PROJECTION,
+                    MappingOperation.PROJECT,
+                    type,
+                    property,
+                    property
+                ));
+            }
+        });
+
+        return new MappingExplanation(
+            MappingOperation.CONVERT,
+            type,
+            type,
+            MappingStrategy.CLONE,
+            null,
+            null,
+            unmodifiableList(explanations),
+            emptyList()
+        );
+    }
+
+    private List<MappingExplanation> explainElements(
+        Type sourceType,
+        Type targetType,
+        Converter<?, ?> converter
+    ) {
+        if (converter instanceof ContainerConverter == false) {
+            return emptyList();
+        }
+
+        if (Maps.isMap(sourceType) && Maps.isMap(targetType)) {
+            if (sourceType instanceof ParameterizedType
+                && targetType instanceof ParameterizedType) {
+                return unmodifiableList(asList(
+                    explain(
+                        MappingOperation.CONVERT,
+                        Maps.resolveKeyType(sourceType),
+                        Maps.resolveKeyType(targetType)
+                    ),
+                    explain(
+                        MappingOperation.CONVERT,
+                        Maps.resolveValueType(sourceType),
+                        Maps.resolveValueType(targetType)
+                    )
+                ));
+            }
+
+            return emptyList();
+        }
+
+        Optional<Type> sourceElementType = findElementType(sourceType);
+        Optional<Type> targetElementType = findElementType(targetType);
+        if (sourceElementType.isPresent() && targetElementType.isPresent()) {
+            return singletonList(explain(
+                MappingOperation.CONVERT,
+                sourceElementType.get(),
+                targetElementType.get()
+            ));
+        }
+
+        return emptyList();
+    }
+
+    private static Optional<Type> findElementType(Type type) {
+        if (Arrays.isArray(type)) {
+            return Optional.of(Arrays.resolveComponentType(type));
+        } else if (Collections.isIterable(type)
+            && type instanceof ParameterizedType) {
+            return Optional.of(Collections.resolveElementType(type));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private MappingExplanation explainProjection(
+        Type sourceType,
+        Type targetType
+    ) {
+        Optional<Projector<?, ?>> projector = configuration
+            .projectors()
+            .findOrigin(sourceType, targetType);
+        if (projector.isPresent()) {
+            return new MappingExplanation(
+                MappingOperation.PROJECT,
+                sourceType,
+                targetType,
+                MappingStrategy.PROJECTOR,
+                null,
+                projector.get(),
+                emptyList(),
+                emptyList()
+            );
+        }
+
+        List<PropertyExplanation> properties = new ArrayList<>();
+        explainProjectionSteps(sourceType, targetType, properties);
+        return new MappingExplanation(
+            MappingOperation.PROJECT,
+            sourceType,
+            targetType,
+            MappingStrategy.PROJECTION,
+            null,
+            null,
+            unmodifiableList(properties),
+            emptyList()
+        );
+    }
+
+    private void explainProjectionSteps(
+        Type sourceType,
+        Type targetType,
+        List<PropertyExplanation> properties
+    ) {
+        Properties targetProperties = Properties.get(targetType);
+        targetProperties.useWritableProperties(targetProperty ->
+            explainWrite(sourceType, targetType, targetProperty)
+                .ifPresent(properties::add)
+        );
+        targetProperties.useReadOnlyProperties(targetProperty -> Properties
+            .get(sourceType)
+            .find(targetProperty.name())
+            .map(sourceProperty -> explainSourceProperty(
+                PropertyStrategy.READ_ONLY_PROJECTION,
+                MappingOperation.PROJECT,
+                sourceType,
+                sourceProperty,
+                targetProperty
+            ))
+            .ifPresent(properties::add)
+        );
+    }
+
+    private PropertyExplanation explainArgument(
+        Type sourceType,
+        Type targetType,
+        String propertyName
+    ) {
+        return explainExtractor(
+            PropertyStrategy.CONSTRUCTOR_ARGUMENT,
+            sourceType,
+            targetType,
+            propertyName
+        ).orElseGet(() -> explainSourceProperty(
+            PropertyStrategy.CONSTRUCTOR_ARGUMENT,
+            MappingOperation.CONVERT,
+            sourceType,
+            Properties.get(sourceType).get(propertyName),
+            Properties.get(targetType).get(propertyName)
+        ));
+    }
+
+    private Optional<PropertyExplanation> explainWrite(
+        Type sourceType,
+        Type targetType,
+        Property targetProperty
+    ) {
+        Optional<PropertyExplanation> extraction = explainExtractor(
+            PropertyStrategy.SETTER,
+            sourceType,
+            targetType,
+            targetProperty.name()
+        );
+        if (extraction.isPresent()) {
+            return extraction;
+        }
+
+        return Properties
+            .get(sourceType)
+            .find(targetProperty.name())
+            .map(sourceProperty -> explainSourceProperty(
+                PropertyStrategy.SETTER,
+                isProjectedInPlace(sourceProperty, targetProperty)
+                    ? MappingOperation.PROJECT
+                    : MappingOperation.CONVERT,
+                sourceType,
+                sourceProperty,
+                targetProperty
+            ));
+    }
+
+    private boolean isProjectedInPlace(
+        Property sourceProperty,
+        Property targetProperty
+    ) {
+        return configuration.collectionProjection()
+                == CollectionProjection.IN_PLACE
+            && Collections.isIterable(sourceProperty.type())
+            && Collections.isIterable(targetProperty.type())
+            && (isList(targetProperty.type())
+                || CollectionMapping.hasElementKeys(
+                    sourceProperty.type(),
+                    targetProperty.type(),
+                    configuration
+                ));
+    }
+
+    private static boolean isList(Type type) {
+        Class<?> rawType = Collections.getRawType(type);
+        return List.class.isAssignableFrom(rawType)
+            || rawType.isAssignableFrom(List.class);
+    }
+
+    private Optional<PropertyExplanation> explainExtractor(
+        PropertyStrategy strategy,
+        Type sourceType,
+        Type targetType,
+        String propertyName
+    ) {
+        return configuration
+            .extractors()
+            .findOrigin(sourceType, targetType, propertyName)
+            .map(extractor -> new PropertyExplanation(
+                propertyName,
+                strategy,
+                PropertySource.EXTRACTOR,
+                emptyList(),
+                extractor,
+                null
+            ));
+    }
+
+    private PropertyExplanation explainSourceProperty(
+        PropertyStrategy strategy,
+        MappingOperation operation,
+        Type sourceType,
+        Property sourceProperty,
+        Property targetProperty
+    ) {
+        Properties sourceProperties = Properties.get(sourceType);
+        String name = sourceProperty.name();
+
+        PropertySource source;
+        List<String> sourcePath;
+        if (sourceProperty.type() instanceof TupleType) {
+            source = PropertySource.UNFLATTENED_TUPLE;
+            sourcePath = sourceProperties.getUnflattenedNames(name);
+        } else {
+            sourcePath = sourceProperties.isStated(name)
+                ? singletonList(name)
+                : sourceProperties.getFlattenedPath(name);
+            source = sourcePath.size() > 1
+                ? PropertySource.FLATTENED_PATH
+                : PropertySource.PROPERTY;
+        }
+
+        return new PropertyExplanation(
+            targetProperty.name(),
+            strategy,
+            source,
+            unmodifiableList(sourcePath),
+            null,
+            explain(operation, sourceProperty.type(), targetProperty.type())
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public final class MappingExplanation {
+
+    private final MappingOperation operation;
+    private final Type sourceType;
+    private final Type targetType;
+    private final MappingStrategy strategy;
+    private final Converter<?, ?> converter;
+    private final Projector<?, ?> projector;
+    private final List<PropertyExplanation> properties;
+    private final List<MappingExplanation> elements;
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        appendTo(s, "");
+        return s.toString();
+    }
+
+    void appendTo(StringBuilder s, String indent) {
+        s.append(operation)
+            .append(" ")
+            .append(sourceType.getTypeName())
+            .append(" -> ")
+            .append(targetType.getTypeName())
+            .append(" [")
+            .append(strategy)
+            .append("]");
+
+        String childIndent = indent + "  ";
+        for (PropertyExplanation property : properties) {
+            s.append(System.lineSeparator()).append(childIndent);
+            property.appendTo(s, childIndent);
+        }
+
+        for (MappingExplanation element : elements) {
+            s.append(System.lineSeparator())
+                .append(childIndent)
+                .append("element ");
+            element.appendTo(s, childIndent);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+
+public interface MappingMetrics {
+
+    default void onStart(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        int depth
+    ) {
+    }
+
+    default void onCompiled(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        long elapsedNanos
+    ) {
+    }
+
+    void onEnd(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        int depth,
+        long elapsedNanos
+    );
+}
@@ -0,0 +1,7 @@
+package easymapper;
+
+public enum MappingOperation {
+
+    CONVERT,
+    PROJECT
+}
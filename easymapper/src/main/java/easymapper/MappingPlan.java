@@ -0,0 +1,466 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+final class MappingPlan {
+
+    private static final ThreadLocal<int[]> DEPTH =
+        ThreadLocal.withInitial(() -> new int[1]);
+
+    private final MappingConfiguration configuration;
+    private final MappingPlanCache plans;
+    private final Type sourceType;
+    private final Type targetType;
+    private final MappingContext context;
+    private final MappingMetrics metrics;
+
+    private volatile Function<Object, Object> converter;
+    private volatile ConstructionPlan construction;
+    private volatile ClonePlan clone;
+    private volatile BiConsumer<Object, Object> projector;
+
+    MappingPlan(
+        MappingConfiguration configuration,
+        MappingPlanCache plans,
+        Type sourceType,
+        Type targetType
+    ) {
+        this.configuration = configuration;
+        this.plans = plans;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.context = new MappingContext(this);
+        this.metrics = configuration.metrics();
+    }
+
+    public MappingConfiguration configuration() {
+        return configuration;
+    }
+
+    public Type sourceType() {
+        return sourceType;
+    }
+
+    public Type targetType() {
+        return targetType;
+    }
+
+    public MappingContext context() {
+        return context;
+    }
+
+    public MappingPlan branch(Type sourceType, Type targetType) {
+        return plans.get(sourceType, targetType);
+    }
+
+    public boolean hasConverter() {
+        return configuration
+            .converters()
+            .find(sourceType, targetType)
+            .isPresent();
+    }
+
+    public boolean isIdentity() {
+        return hasIdentityConverter(sourceType, targetType);
+    }
+
+    public Object convert(Object source) {
+        return metrics == null
+            ? convertUnmeasured(source)
+            : convertMeasured(source);
+    }
+
+    private Object convertMeasured(Object source) {
+        int[] depth = DEPTH.get();
+        int currentDepth = depth[0]++;
+        metrics.onStart(
+            MappingOperation.CONVERT,
+            sourceType,
+            targetType,
+            currentDepth
+        );
+        long start = System.nanoTime();
+        try {
+            return convertUnmeasured(source);
+        } finally {
+            depth[0] = currentDepth;
+            metrics.onEnd(
+                MappingOperation.CONVERT,
+                sourceType,
+                targetType,
+                currentDepth,
+                System.nanoTime() - start
+            );
+        }
+    }
+
+    private Object convertUnmeasured(Object source) {
+        return getConverter().apply(source);
+    }
+
+    private Function<Object, Object> getConverter() {
+        Function<Object, Object> converter = this.converter;
+        if (converter == null) {
+            converter = compile(
+                MappingOperation.CONVERT,
+                this::compileConverter
+            );
+            this.converter = converter;
+        }
+
+        return converter;
+    }
+
+    public void prepare(MappingOperation operation) {
+        if (operation == MappingOperation.PROJECT) {
+            getProjector();
+            return;
+        }
+
+        getConverter();
+        if (hasConverter() || findGeneratedMapper().isPresent()) {
+            return;
+        }
+
+        if (isCloneable()) {
+            getClone().prepare();
+        } else {
+            getConstruction().prepare();
+            getProjector();
+        }
+    }
+
+    private <T> T compile(MappingOperation operation, Supplier<T> compiler) {
+        if (metrics == null) {
+            return compiler.get();
+        }
+
+        long start = System.nanoTime();
+        T compiled = compiler.get();
+        metrics.onCompiled(
+            operation,
+            sourceType,
+            targetType,
+            System.nanoTime() - start
+        );
+        return compiled;
+    }
+
+    private Function<Object, Object> compileConverter() {
+        return configuration
+            .converters()
+            .find(sourceType, targetType)
+            .map(converter -> converter.bindContext(context))
+            .orElseGet(() -> findGeneratedMapper()
+                .map(ObjectConverter::from)
+                .map(converter -> converter.bindContext(context))
+                .orElseGet(this::compileDefaultConverter));
+    }
+
+    private Function<Object, Object> compileDefaultConverter() {
+        return isCloneable() ? this::copy : this::convertInDefaultWay;
+    }
+
+    public boolean isCloneable() {
+        return sourceType.equals(targetType)
+            && hasProjector() == false
+            && configuration.extractors().any(sourceType, targetType) == false;
+    }
+
+    private boolean hasProjector() {
+        return configuration
+            .projectors()
+            .find(sourceType, targetType)
+            .isPresent();
+    }
+
+    public Optional<GeneratedMapper<?, ?>> findGeneratedMapper() {
+        if (hasProjector()
+            || configuration.extractors().any(sourceType, targetType)) {
+            return Optional.empty();
+        }
+
+        return configuration
+            .generatedMappers()
+            .find(sourceType, targetType)
+            .filter(mapper -> mapper
+                .identityTypes()
+                .stream()
+                .allMatch(type -> hasIdentityConverter(type, type)));
+    }
+
+    private boolean hasIdentityConverter(Type sourceType, Type targetType) {
+        return configuration
+            .converters()
+            .find(sourceType, targetType)
+            .filter(converter -> converter == IdentityConverter.INSTANCE)
+            .isPresent();
+    }
+
+    private Object copy(Object source) {
+        return getClone().copy(source);
+    }
+
+    private ClonePlan getClone() {
+        ClonePlan clone = this.clone;
+        if (clone == null) {
+            clone = ClonePlan.compile(this);
+            this.clone = clone;
+        }
+
+        return clone;
+    }
+
+    private Object convertInDefaultWay(Object source) {
+        return source == null ? null : constructThenProject(source);
+    }
+
+    private Object constructThenProject(Object source) {
+        Object target = construct(source);
+        projectUnmeasured(source, target);
+        return target;
+    }
+
+    private Object construct(Object source) {
+        return getConstruction().construct(source);
+    }
+
+    private ConstructionPlan getConstruction() {
+        ConstructionPlan construction = this.construction;
+        if (construction == null) {
+            construction = compileConstruction();
+            this.construction = construction;
+        }
+
+        return construction;
+    }
+
+    private ConstructionPlan compileConstruction() {
+        ConstructorSelection selection = configuration
+            .constructors()
+            .select(targetType);
+        List<Function<Object, Object>> arguments = new ArrayList<>();
+        for (String propertyName : selection.propertyNames()) {
+            arguments.add(compileArgument(propertyName));
+        }
+
+        return new ConstructionPlan(
+            selection.constructor(),
+            arguments,
+            configuration.compilationThreshold()
+        );
+    }
+
+    private Function<Object, Object> compileArgument(String propertyName) {
+        return configuration
+            .extractors()
+            .find(sourceType, targetType, propertyName)
+            .<Function<Object, Object>>map(extractor ->
+                source -> extractor.extract(source, context)
+            )
+            .orElseGet(() -> compilePropertyConversion(propertyName));
+    }
+
+    private Function<Object, Object> compilePropertyConversion(
+        String propertyName
+    ) {
+        Property sourceProperty = Properties.get(sourceType).get(propertyName);
+        Property targetProperty = Properties.get(targetType).get(propertyName);
+        MappingPlan plan = branch(sourceProperty.type(), targetProperty.type());
+        return source -> plan.convert(sourceProperty.get(source));
+    }
+
+    public void project(Object source, Object target) {
+        if (source == target) {
+            return;
+        }
+
+        if (metrics == null) {
+            projectUnmeasured(source, target);
+        } else {
+            projectMeasured(source, target);
+        }
+    }
+
+    private void projectMeasured(Object source, Object target) {
+        int[] depth = DEPTH.get();
+        int currentDepth = depth[0]++;
+        metrics.onStart(
+            MappingOperation.PROJECT,
+            sourceType,
+            targetType,
+            currentDepth
+        );
+        long start = System.nanoTime();
+        try {
+            projectUnmeasured(source, target);
+        } finally {
+            depth[0] = currentDepth;
+            metrics.onEnd(
+                MappingOperation.PROJECT,
+                sourceType,
+                targetType,
+                currentDepth,
+                System.nanoTime() - start
+            );
+        }
+    }
+
+    private void projectUnmeasured(Object source, Object target) {
+        getProjector().accept(source, target);
+    }
+
+    private BiConsumer<Object, Object> getProjector() {
+        BiConsumer<Object, Object> projector = this.projector;
+        if (projector == null) {
+            projector = compile(
+                MappingOperation.PROJECT,
+                this::compileProjector
+            );
+            this.projector = projector;
+        }
+
+        return projector;
+    }
+
+    private BiConsumer<Object, Object> compileProjector() {
+        return configuration
+            .projectors()
+            .find(sourceType, targetType)
+            .map(projector -> projector.bindContext(context))
+            .orElseGet(this::compileDefaultProjector);
+    }
+
+    private BiConsumer<Object, Object> compileDefaultProjector() {
+        List<BiConsumer<Object, Object>> steps = new ArrayList<>();
+        compileWritablePropertySteps(steps);
+        compileReadOnlyPropertySteps(steps);
+        return (source, target) -> {
+            for (BiConsumer<Object, Object> step : steps) {
+                step.accept(source, target);
+            }
+        };
+    }
+
+    private void compileWritablePropertySteps(
+        List<BiConsumer<Object, Object>> steps
+    ) {
+        Properties targetProperties = Properties.get(targetType);
+        targetProperties.useWritableProperties(targetProperty ->
+            compileWriteStep(targetProperty).ifPresent(steps::add)
+        );
+    }
+
+    private Optional<BiConsumer<Object, Object>> compileWriteStep(
+        Property targetProperty
+    ) {
+        Optional<ObjectExtractor> extractor = configuration
+            .extractors()
+            .find(sourceType, targetType, targetProperty.name());
+
+        if (extractor.isPresent()) {
+            return Optional.of(compileExtractStep(
+                extractor.get(),
+                targetProperty
+            ));
+        }
+
+        return Properties
+            .get(sourceType)
+            .find(targetProperty.name())
+            .map(sourceProperty -> compileSetStep(
+                sourceProperty,
+                targetProperty
+            ));
+    }
+
+    private BiConsumer<Object, Object> compileExtractStep(
+        ObjectExtractor extractor,
+        Property targetProperty
+    ) {
+        return (source, target) -> targetProperty.set(
+            target,
+            extractor.extract(source, context)
+        );
+    }
+
+    private BiConsumer<Object, Object> compileSetStep(
+        Property sourceProperty,
+        Property targetProperty
+    ) {
+        MappingPlan plan = branch(sourceProperty.type(), targetProperty.type());
+        if (isProjectedInPlace(sourceProperty, targetProperty)) {
+            boolean keyed = CollectionMapping.hasElementKeys(
+                sourceProperty.type(),
+                targetProperty.type(),
+                configuration
+            );
+            return (source, target) -> {
+                Object sourceValue = sourceProperty.get(source);
+                Object targetValue = targetProperty.get(target);
+                if (sourceValue != null
+                    && isProjectable(targetValue, keyed)) {
+                    plan.project(sourceValue, targetValue);
+                } else if (sourceValue != targetValue) {
+                    targetProperty.set(target, plan.convert(sourceValue));
+                }
+            };
+        }
+
+        return (source, target) -> {
+            Object sourceValue = sourceProperty.get(source);
+            if (sourceValue != targetProperty.get(target)) {
+                targetProperty.set(target, plan.convert(sourceValue));
+            }
+        };
+    }
+
+    private static boolean isProjectable(Object targetValue, boolean keyed) {
+        return (targetValue instanceof List<?>
+                || (keyed && targetValue instanceof Collection<?>))
+            && Collections.isModifiable((Collection<?>) targetValue);
+    }
+
+    private boolean isProjectedInPlace(
+        Property sourceProperty,
+        Property targetProperty
+    ) {
+        return configuration.collectionProjection()
+                == CollectionProjection.IN_PLACE
+            && Collections.isIterable(sourceProperty.type())
+            && Collections.isIterable(targetProperty.type());
+    }
+
+    private void compileReadOnlyPropertySteps(
+        List<BiConsumer<Object, Object>> steps
+    ) {
+        Properties targetProperties = Properties.get(targetType);
+        targetProperties.useReadOnlyProperties(targetProperty -> Properties
+            .get(sourceType)
+            .find(targetProperty.name())
+            .map(sourceProperty -> compileProjectStep(
+                sourceProperty,
+                targetProperty
+            ))
+            .ifPresent(steps::add)
+        );
+    }
+
+    private BiConsumer<Object, Object> compileProjectStep(
+        Property sourceProperty,
+        Property targetProperty
+    ) {
+        MappingPlan plan = branch(sourceProperty.type(), targetProperty.type());
+        return (source, target) -> plan.project(
+            sourceProperty.get(source),
+            targetProperty.get(target)
+        );
+    }
+}
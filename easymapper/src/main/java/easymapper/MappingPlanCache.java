@@ -0,0 +1,35 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+class MappingPlanCache {
+
+    private final MappingConfiguration configuration;
+    private final ConcurrentMap<TypePair, MappingPlan> plans;
+
+    public MappingPlanCache(MappingConfiguration configuration) {
+        this.configuration = configuration;
+        this.plans = new ConcurrentHashMap<>();
+    }
+
+    public MappingConfiguration configuration() {
+        return configuration;
+    }
+
+    public MappingPlan get(Type sourceType, Type targetType) {
+        TypePair key = new TypePair(sourceType, targetType);
+        MappingPlan plan = plans.get(key);
+        return plan == null ? plans.computeIfAbsent(key, this::create) : plan;
+    }
+
+    private MappingPlan create(TypePair key) {
+        return new MappingPlan(
+            configuration,
+            this,
+            key.sourceType(),
+            key.targetType()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package easymapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+@Getter(AccessLevel.PACKAGE)
+@Accessors(fluent = true)
+public final class MappingPreparationBuilder {
+
+    private final List<TypePair> typePairs;
+
+    MappingPreparationBuilder() {
+        typePairs = new ArrayList<>();
+    }
+
+    public <S, T> MappingPreparationBuilder add(
+        @NonNull Class<S> sourceType,
+        @NonNull Class<T> targetType
+    ) {
+        typePairs.add(new TypePair(sourceType, targetType));
+        return this;
+    }
+
+    public <S, T> MappingPreparationBuilder add(
+        @NonNull TypeReference<S> sourceTypeReference,
+        @NonNull TypeReference<T> targetTypeReference
+    ) {
+        typePairs.add(new TypePair(
+            sourceTypeReference.getType(),
+            targetTypeReference.getType()
+        ));
+        return this;
+    }
+}
@@ -0,0 +1,98 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+class MappingPreparer {
+
+    private final MappingPlanCache plans;
+    private final MappingExplainer explainer;
+    private final Set<MappingExplanation> prepared =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public MappingPreparer(MappingPlanCache plans) {
+        this.plans = plans;
+        this.explainer = new MappingExplainer(plans);
+    }
+
+    public void prepare(Type sourceType, Type targetType) {
+        try {
+            prepare(explainer.explain(
+                MappingOperation.CONVERT,
+                sourceType,
+                targetType
+            ));
+        } catch (RuntimeException exception) {
+            String message = "Cannot prepare mapping from "
+                + sourceType.getTypeName() + " to "
+                + targetType.getTypeName() + ": "
+                + exception.getMessage();
+            throw new RuntimeException(message, exception);
+        }
+    }
+
+    public void prepareAll(List<TypePair> typePairs) {
+        List<RuntimeException> failures = new ArrayList<>();
+        for (TypePair typePair : typePairs) {
+            try {
+                prepare(typePair.sourceType(), typePair.targetType());
+            } catch (RuntimeException exception) {
+                failures.add(exception);
+            }
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder()
+            .append("Cannot prepare ")
+            .append(failures.size())
+            .append(" of ")
+            .append(typePairs.size())
+            .append(" mappings.");
+        for (RuntimeException failure : failures) {
+            message.append(System.lineSeparator()).append(failure.getMessage());
+        }
+
+        RuntimeException exception = new RuntimeException(message.toString());
+        failures.forEach(exception::addSuppressed);
+        throw exception;
+    }
+
+    private void prepare(MappingExplanation explanation) {
+        if (explanation.getStrategy() == MappingStrategy.RECURSION
+            || prepared.add(explanation) == false) {
+            return;
+        }
+
+        plans
+            .get(explanation.getSourceType(), explanation.getTargetType())
+            .prepare(explanation.getOperation());
+
+        for (PropertyExplanation property : explanation.getProperties()) {
+            MappingExplanation mapping = property.getMapping();
+            if (mapping == null) {
+                continue;
+            }
+
+            prepare(mapping);
+            if (property.getStrategy() == PropertyStrategy.SETTER
+                && mapping.getOperation() == MappingOperation.PROJECT) {
+                prepare(explainer.explain(
+                    MappingOperation.CONVERT,
+                    mapping.getSourceType(),
+                    mapping.getTargetType()
+                ));
+            }
+        }
+
+        for (MappingExplanation element : explanation.getElements()) {
+            prepare(element);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public final class MappingStatistics {
+
+    private final MappingOperation operation;
+    private final Type sourceType;
+    private final Type targetType;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+}
@@ -0,0 +1,12 @@
+package easymapper;
+
+public enum MappingStrategy {
+
+    CONVERTER,
+    GENERATED_MAPPER,
+    CONSTRUCTION,
+    CLONE,
+    PROJECTOR,
+    PROJECTION,
+    RECURSION
+}
@@ -1,6 +1,7 @@
 package easymapper;
 
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,4 +19,16 @@ class MappingTypePredicate {
         return sourceTypePredicate.test(sourceType)
             && targetTypePredicate.test(targetType);
     }
+
+    public Optional<TypePair> exactTypes() {
+        if (sourceTypePredicate instanceof ExactTypePredicate
+            && targetTypePredicate instanceof ExactTypePredicate) {
+            return Optional.of(new TypePair(
+                ((ExactTypePredicate) sourceTypePredicate).type(),
+                ((ExactTypePredicate) targetTypePredicate).type()
+            ));
+        }
+
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,141 @@
+package easymapper;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.IntFunction;
+
+import static easymapper.Collections.getHashCapacity;
+import static easymapper.Collections.getRawType;
+import static easymapper.Collections.isConcrete;
+
+class Maps {
+
+    private static final ClassValue<IntFunction<Map<Object, Object>>>
+        MAP_FACTORIES =
+        new ClassValue<IntFunction<Map<Object, Object>>>() {
+            @Override
+            protected IntFunction<Map<Object, Object>> computeValue(
+                Class<?> type
+            ) {
+                return createMapFactory(type);
+            }
+        };
+
+    public static boolean isMap(Type type) {
+        if (type instanceof ParameterizedType) {
+            return isMap(((ParameterizedType) type).getRawType());
+        } else if (type instanceof Class<?>) {
+            return Map.class.isAssignableFrom((Class<?>) type);
+        } else {
+            return false;
+        }
+    }
+
+    public static Type resolveKeyType(Type mapType) {
+        return resolveTypeArguments(mapType)[0];
+    }
+
+    public static Type resolveValueType(Type mapType) {
+        return resolveTypeArguments(mapType)[1];
+    }
+
+    private static Type[] resolveTypeArguments(Type mapType) {
+        if (mapType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) mapType)
+                .getActualTypeArguments();
+            if (arguments.length == 2) {
+                return arguments;
+            }
+        }
+
+        throw new RuntimeException(
+            "Cannot resolve key and value types from the type: " + mapType
+        );
+    }
+
+    public static Map<Object, Object> createMap(Type mapType, int capacity) {
+        return MAP_FACTORIES.get(getRawType(mapType)).apply(capacity);
+    }
+
+    public static Map<Object, Object> createMap(
+        Type mapType,
+        int capacity,
+        Comparator<Object> comparator
+    ) {
+        Class<?> type = getRawType(mapType);
+        if (comparator != null && SortedMap.class.isAssignableFrom(type)) {
+            if (type.isAssignableFrom(TreeMap.class)) {
+                return new TreeMap<>(comparator);
+            } else if (type.isAssignableFrom(ConcurrentSkipListMap.class)) {
+                return new ConcurrentSkipListMap<>(comparator);
+            }
+        }
+
+        return createMap(mapType, capacity);
+    }
+
+    private static IntFunction<Map<Object, Object>> createMapFactory(
+        Class<?> type
+    ) {
+        if (Map.class.isAssignableFrom(type) && isConcrete(type)) {
+            return createConcreteFactory(type);
+        } else if (type.isAssignableFrom(LinkedHashMap.class)) {
+            return capacity -> new LinkedHashMap<>(getHashCapacity(capacity));
+        } else if (type.isAssignableFrom(TreeMap.class)) {
+            return capacity -> new TreeMap<>();
+        } else if (type.isAssignableFrom(ConcurrentHashMap.class)) {
+            return ConcurrentHashMap::new;
+        } else if (type.isAssignableFrom(ConcurrentSkipListMap.class)) {
+            return capacity -> new ConcurrentSkipListMap<>();
+        } else {
+            throw new RuntimeException(
+                "Cannot create a map of the type: " + type
+            );
+        }
+    }
+
+    private static IntFunction<Map<Object, Object>> createConcreteFactory(
+        Class<?> type
+    ) {
+        if (type.equals(HashMap.class)) {
+            return capacity -> new HashMap<>(getHashCapacity(capacity));
+        } else if (type.equals(LinkedHashMap.class)) {
+            return capacity -> new LinkedHashMap<>(getHashCapacity(capacity));
+        } else if (type.equals(ConcurrentHashMap.class)) {
+            return ConcurrentHashMap::new;
+        }
+
+        Constructor<?> constructor = getDefaultConstructor(type);
+        return capacity -> instantiate(constructor);
+    }
+
+    private static Constructor<?> getDefaultConstructor(Class<?> type) {
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException exception) {
+            throw new RuntimeException(
+                "Cannot find a public default constructor of the map type: "
+                    + type,
+                exception
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> instantiate(Constructor<?> constructor) {
+        try {
+            return (Map<Object, Object>) constructor.newInstance();
+        } catch (Exception exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
@@ -7,6 +7,10 @@ interface ObjectConverter extends Converter<Object, Object> {
 
     @SuppressWarnings("unchecked")
     static <S, T> ObjectConverter from(Converter<S, T> converter) {
+        if (converter instanceof ObjectConverter) {
+            return (ObjectConverter) converter;
+        }
+
         return (source, context) -> converter.convert((S) source, context);
     }
 
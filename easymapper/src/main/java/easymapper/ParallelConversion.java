@@ -0,0 +1,198 @@
+package easymapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class ParallelConversion {
+
+    private static final int MINIMUM_CHUNK_SIZE = 256;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private static final ThreadLocal<Boolean> RUNNING =
+        ThreadLocal.withInitial(() -> false);
+
+    private final MappingContext elementMappingContext;
+    private final Object[] elements;
+    private final int chunkSize;
+
+    private ParallelConversion(
+        MappingContext elementMappingContext,
+        Object[] elements,
+        int parallelism
+    ) {
+        this.elementMappingContext = elementMappingContext;
+        this.elements = elements;
+        this.chunkSize = Math.max(
+            MINIMUM_CHUNK_SIZE,
+            elements.length / (parallelism * CHUNKS_PER_WORKER) + 1
+        );
+    }
+
+    public static Object[] convert(
+        Object[] elements,
+        MappingContext elementMappingContext,
+        Executor executor
+    ) {
+        if (executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            new ParallelConversion(
+                elementMappingContext,
+                elements,
+                pool.getParallelism()
+            ).convert(pool);
+        } else {
+            new ParallelConversion(
+                elementMappingContext,
+                elements,
+                Runtime.getRuntime().availableProcessors()
+            ).convert(executor);
+        }
+
+        return elements;
+    }
+
+    private void convert(ForkJoinPool pool) {
+        ForkJoinTask<Void> task = new Chunk(0, elements.length);
+        Thread thread = Thread.currentThread();
+        if (thread instanceof ForkJoinWorkerThread
+            && ((ForkJoinWorkerThread) thread).getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    private void convert(Executor executor) {
+        if (RUNNING.get()) {
+            convert(0, elements.length);
+            return;
+        }
+
+        Chunks chunks = new Chunks();
+        List<CompletableFuture<Void>> futures = chunks.submit(executor);
+        chunks.run();
+        for (CompletableFuture<Void> future : futures) {
+            future.cancel(false);
+        }
+
+        chunks.await();
+
+        Throwable failure = chunks.failure.get();
+        if (failure != null) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private void convert(int from, int to) {
+        for (int i = from; i < to; i++) {
+            elements[i] = elementMappingContext.convert(elements[i]);
+        }
+    }
+
+    private final class Chunks {
+
+        private final int count = (elements.length + chunkSize - 1) / chunkSize;
+        private final AtomicInteger next = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(count);
+        private final AtomicReference<Throwable> failure =
+            new AtomicReference<>();
+
+        List<CompletableFuture<Void>> submit(Executor executor) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 1; i < count; i++) {
+                try {
+                    futures.add(
+                        CompletableFuture.runAsync(this::run, executor)
+                    );
+                } catch (RejectedExecutionException exception) {
+                    break;
+                }
+            }
+
+            return futures;
+        }
+
+        void run() {
+            RUNNING.set(true);
+            try {
+                for (int chunk = next.getAndIncrement();
+                    chunk < count;
+                    chunk = next.getAndIncrement()) {
+                    try {
+                        if (failure.get() == null) {
+                            convert(chunk);
+                        }
+                    } catch (Throwable exception) {
+                        failure.compareAndSet(null, exception);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            } finally {
+                RUNNING.remove();
+            }
+        }
+
+        private void convert(int chunk) {
+            int from = chunk * chunkSize;
+            ParallelConversion.this.convert(
+                from,
+                Math.min(from + chunkSize, elements.length)
+            );
+        }
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private final class Chunk extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                convert(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new Chunk(from, middle), new Chunk(middle, to));
+        }
+    }
+}
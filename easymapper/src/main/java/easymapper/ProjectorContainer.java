@@ -3,6 +3,8 @@ package easymapper;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,19 +21,42 @@ class ProjectorContainer {
 
         private final MappingTypePredicate predicate;
         private final ObjectProjector projector;
+        private final Projector<?, ?> origin;
     }
 
     private final List<Entry> entries;
+    private final ConcurrentMap<TypePair, Optional<ObjectProjector>>
+        resolutions = new ConcurrentHashMap<>();
 
     public ProjectorContainer(List<Entry> entries) {
         this.entries = unmodifiableList(entries);
     }
 
     public Optional<ObjectProjector> find(Type sourceType, Type targetType) {
+        TypePair key = new TypePair(sourceType, targetType);
+        Optional<ObjectProjector> resolution = resolutions.get(key);
+        return resolution == null
+            ? resolutions.computeIfAbsent(key, this::resolve)
+            : resolution;
+    }
+
+    public Optional<Projector<?, ?>> findOrigin(
+        Type sourceType,
+        Type targetType
+    ) {
+        TypePair key = new TypePair(sourceType, targetType);
+        return resolveEntry(key).map(Entry::origin);
+    }
+
+    private Optional<ObjectProjector> resolve(TypePair key) {
+        return resolveEntry(key).map(Entry::projector);
+    }
+
+    private Optional<Entry> resolveEntry(TypePair key) {
         for (int i = entries.size() - 1; i >= 0; i--) {
             Entry entry = entries.get(i);
-            if (entry.predicate().test(sourceType, targetType)) {
-                return Optional.of(entry.projector());
+            if (entry.predicate().test(key.sourceType(), key.targetType())) {
+                return Optional.of(entry);
             }
         }
 
@@ -20,7 +20,8 @@ class ProjectorContainerBuilder {
                     sourceTypePredicate,
                     targetTypePredicate
                 ),
-                ObjectProjector.from(projector)
+                ObjectProjector.from(projector),
+                projector
             )
         );
     }
@@ -1,22 +1,52 @@
 package easymapper;
 
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static easymapper.TypeAnalyzer.getReturnTypeResolver;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 class Properties {
 
+    private static final ClassValue<Properties> CLASS_PROPERTIES =
+        new ClassValue<Properties>() {
+            @Override
+            protected Properties computeValue(Class<?> type) {
+                return create(type);
+            }
+        };
+
+    private static final ClassValue<ConcurrentMap<Type, Properties>>
+        PARAMETERIZED_PROPERTIES =
+        new ClassValue<ConcurrentMap<Type, Properties>>() {
+            @Override
+            protected ConcurrentMap<Type, Properties> computeValue(
+                Class<?> rawType
+            ) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final Type sourceType;
     private final Map<String, Property> statedProperties;
+    private final ConcurrentMap<String, Optional<Property>> resolutions =
+        new ConcurrentHashMap<>();
 
     private Properties(
         Type sourceType,
@@ -27,7 +57,114 @@ class Properties {
     }
 
     public static Properties get(Type sourceType) {
-        return new Properties(sourceType, getStatedProperties(sourceType));
+        if (sourceType instanceof Class<?>) {
+            return CLASS_PROPERTIES.get((Class<?>) sourceType);
+        } else if (sourceType instanceof ParameterizedType) {
+            return get((ParameterizedType) sourceType);
+        } else {
+            return create(sourceType);
+        }
+    }
+
+    private static Properties get(ParameterizedType sourceType) {
+        return getCacheOwner(sourceType)
+            .map(owner -> PARAMETERIZED_PROPERTIES
+                .get(owner)
+                .computeIfAbsent(sourceType, Properties::create))
+            .orElseGet(() -> create(sourceType));
+    }
+
+    private static Optional<Class<?>> getCacheOwner(Type type) {
+        List<Class<?>> classes = new ArrayList<>();
+        if (collectClasses(type, classes) == false) {
+            return Optional.empty();
+        }
+
+        Class<?> owner = classes.get(0);
+        for (Class<?> candidate : classes) {
+            if (canSee(owner.getClassLoader(), candidate)) {
+                continue;
+            } else if (canSee(candidate.getClassLoader(), owner)) {
+                owner = candidate;
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(owner);
+    }
+
+    private static boolean collectClasses(Type type, List<Class<?>> classes) {
+        if (type instanceof Class<?>) {
+            classes.add((Class<?>) type);
+            return true;
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type ownerType = parameterizedType.getOwnerType();
+            if (ownerType != null
+                && collectClasses(ownerType, classes) == false) {
+                return false;
+            }
+
+            if (collectClasses(parameterizedType.getRawType(), classes)
+                == false) {
+                return false;
+            }
+
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                if (collectClasses(argument, classes) == false) {
+                    return false;
+                }
+            }
+
+            return true;
+        } else if (type instanceof GenericArrayType) {
+            return collectClasses(
+                ((GenericArrayType) type).getGenericComponentType(),
+                classes
+            );
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            for (Type bound : wildcardType.getUpperBounds()) {
+                if (collectClasses(bound, classes) == false) {
+                    return false;
+                }
+            }
+
+            for (Type bound : wildcardType.getLowerBounds()) {
+                if (collectClasses(bound, classes) == false) {
+                    return false;
+                }
+            }
+
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean canSee(ClassLoader loader, Class<?> type) {
+        ClassLoader typeLoader = type.getClassLoader();
+        if (typeLoader == null) {
+            return true;
+        }
+
+        for (ClassLoader ancestor = loader;
+             ancestor != null;
+             ancestor = ancestor.getParent()) {
+            if (ancestor == typeLoader) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Properties create(Type sourceType) {
+        return new Properties(
+            sourceType,
+            unmodifiableMap(getStatedProperties(sourceType))
+        );
     }
 
     private static Map<String, Property> getStatedProperties(Type type) {
@@ -81,6 +218,29 @@ class Properties {
         }
     }
 
+    public boolean isStated(String name) {
+        return statedProperties.containsKey(name);
+    }
+
+    public List<String> getFlattenedPath(String name) {
+        List<Property> path = new ArrayList<>();
+        if (findFlattened(path, name.toLowerCase(), name) == null) {
+            return emptyList();
+        }
+
+        return path.stream().map(Property::name).collect(toList());
+    }
+
+    public List<String> getUnflattenedNames(String name) {
+        return statedProperties
+            .values()
+            .stream()
+            .filter(property -> property.nameStartsWithIgnoreCase(name))
+            .map(Property::name)
+            .sorted()
+            .collect(toList());
+    }
+
     public Property get(String name) {
         return find(name).orElseThrow(() -> {
             String message = "No property found for '"
@@ -89,11 +249,14 @@ class Properties {
         });
     }
 
-    public void ifPresent(String name, Consumer<Property> action) {
-        find(name).ifPresent(action);
+    public Optional<Property> find(String name) {
+        Optional<Property> resolution = resolutions.get(name);
+        return resolution == null
+            ? resolutions.computeIfAbsent(name, this::resolve)
+            : resolution;
     }
 
-    public Optional<Property> find(String name) {
+    private Optional<Property> resolve(String name) {
         Property statedProperty = statedProperties.getOrDefault(name, null);
         if (statedProperty == null) {
             Property flattenedProperty = findFlattened(name);
@@ -108,31 +271,39 @@ class Properties {
     }
 
     private Property findFlattened(String name) {
-        return findFlattened(identity(), name, name);
+        List<Property> path = new ArrayList<>();
+        Property leaf = findFlattened(path, name.toLowerCase(), name);
+        if (leaf == null) {
+            return null;
+        }
+
+        return new Property(
+            leaf.type(),
+            name,
+            compilePath(path.toArray(new Property[0])),
+            null
+        );
     }
 
     private Property findFlattened(
-        Function<Object, Object> resolver,
-        String path,
+        List<Property> path,
+        String lowerCasePath,
         String unresolvedPath
     ) {
         for (Property property : statedProperties.values()) {
             String propertyName = property.name();
 
             if (unresolvedPath.equalsIgnoreCase(propertyName)) {
-                return new Property(
-                    property.type(),
-                    path,
-                    instance -> property.get(resolver.apply(instance)),
-                    null
-                );
+                path.add(property);
+                return property;
             }
 
-            if (path.toLowerCase().startsWith(propertyName.toLowerCase())) {
+            if (lowerCasePath.startsWith(propertyName.toLowerCase())) {
+                path.add(property);
                 return Properties.get(property.type()).findFlattened(
-                    instance -> property.get(resolver.apply(instance)),
                     path,
-                    path.substring(propertyName.length())
+                    lowerCasePath,
+                    lowerCasePath.substring(propertyName.length())
                 );
             }
         }
@@ -140,28 +311,49 @@ class Properties {
         return null;
     }
 
+    private static Function<Object, Object> compilePath(Property[] path) {
+        return instance -> {
+            Object value = instance;
+            for (int i = 0; i < path.length && value != null; i++) {
+                value = path[i].get(value);
+            }
+
+            return value;
+        };
+    }
+
     private Property findUnflattened(String name) {
-        List<Property> flattenedProperties = statedProperties
+        Property[] flattenedProperties = statedProperties
             .values()
             .stream()
             .filter(property -> property.nameStartsWithIgnoreCase(name))
             .map(property -> property.withHeadTruncatedName(name.length()))
-            .collect(toList());
+            .toArray(Property[]::new);
 
-        if (flattenedProperties.isEmpty()) {
+        if (flattenedProperties.length == 0) {
             return null;
         }
 
-        TupleType type = new TupleType(flattenedProperties
-            .stream()
-            .collect(toMap(Property::name, Property::type)));
-
-        Function<Object, Object> getter = instance -> new Tuple(
-            flattenedProperties.stream().collect(
-                toMap(Property::name, property -> property.get(instance))
-            )
+        TupleType type = new TupleType(
+            Arrays
+                .stream(flattenedProperties)
+                .map(Property::name)
+                .toArray(String[]::new),
+            Arrays
+                .stream(flattenedProperties)
+                .map(Property::type)
+                .toArray(Type[]::new)
         );
 
+        Function<Object, Object> getter = instance -> {
+            Object[] values = new Object[flattenedProperties.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = flattenedProperties[i].get(instance);
+            }
+
+            return new Tuple(values);
+        };
+
         return new Property(type, name, getter, null);
     }
 }
@@ -0,0 +1,47 @@
+package easymapper;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public final class PropertyExplanation {
+
+    private final String name;
+    private final PropertyStrategy strategy;
+    private final PropertySource source;
+    private final List<String> sourcePath;
+    private final Extractor<?, ?> extractor;
+    private final MappingExplanation mapping;
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        appendTo(s, "");
+        return s.toString();
+    }
+
+    void appendTo(StringBuilder s, String indent) {
+        s.append(name)
+            .append(" [")
+            .append(strategy)
+            .append(", ")
+            .append(source);
+
+        if (sourcePath.isEmpty() == false) {
+            String separator = source == PropertySource.UNFLATTENED_TUPLE
+                ? ", "
+                : ".";
+            s.append(" ").append(String.join(separator, sourcePath));
+        }
+
+        s.append("]");
+
+        if (mapping != null) {
+            s.append(" ");
+            mapping.appendTo(s, indent);
+        }
+    }
+}
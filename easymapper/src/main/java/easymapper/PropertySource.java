@@ -0,0 +1,9 @@
+package easymapper;
+
+public enum PropertySource {
+
+    EXTRACTOR,
+    PROPERTY,
+    FLATTENED_PATH,
+    UNFLATTENED_TUPLE
+}
@@ -0,0 +1,8 @@
+package easymapper;
+
+public enum PropertyStrategy {
+
+    CONSTRUCTOR_ARGUMENT,
+    SETTER,
+    READ_ONLY_PROJECTION
+}
@@ -23,10 +23,31 @@ class Setter {
         return new Setter(
             method.getGenericParameterTypes()[0],
             method.getName(),
-            (instance, value) -> invoke(method, instance, value)
+            AccessorFactory
+                .tryCreateSetter(method)
+                .map(Setter::propagateExceptions)
+                .orElseGet(() -> (instance, value) -> invoke(
+                    method,
+                    instance,
+                    value
+                ))
         );
     }
 
+    private static BiConsumer<Object, Object> propagateExceptions(
+        BiConsumer<Object, Object> operation
+    ) {
+        return (instance, value) -> {
+            try {
+                operation.accept(instance, value);
+            } catch (Throwable exception) {
+                throw new RuntimeException(
+                    new InvocationTargetException(exception)
+                );
+            }
+        };
+    }
+
     private static void invoke(Method method, Object instance, Object arg) {
         try {
             method.invoke(instance, arg);
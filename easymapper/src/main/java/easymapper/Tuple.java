@@ -1,15 +1,13 @@
 package easymapper;
 
-import java.util.Map;
-
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
 class Tuple {
 
-    private final Map<String, Object> values;
+    private final Object[] values;
 
-    public Object get(String name) {
-        return values.get(name);
+    public Object get(int slot) {
+        return values[slot];
     }
 }
@@ -1,24 +1,41 @@
 package easymapper;
 
 import java.lang.reflect.Type;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import lombok.AllArgsConstructor;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.joining;
 
-@AllArgsConstructor
 class TupleType implements Type {
 
-    private final Map<String, Type> types;
+    private final Map<String, Getter> getters;
+
+    public TupleType(String[] names, Type[] types) {
+        Map<String, Getter> getters = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            int slot = i;
+            getters.put(names[i], new Getter(
+                types[i],
+                names[i],
+                instance -> ((Tuple) instance).get(slot)
+            ));
+        }
+
+        this.getters = unmodifiableMap(getters);
+    }
 
     public Map<String, Getter> getGetters() {
-        return types
+        return getters;
+    }
+
+    @Override
+    public String toString() {
+        return getters
             .keySet()
             .stream()
-            .map(name -> new Getter(
-                types.get(name),
-                name,
-                instance -> ((Tuple) instance).get(name)))
-            .collect(Collectors.toMap(Getter::name, getter -> getter));
+            .sorted()
+            .map(name -> name + ": " + getters.get(name).type().getTypeName())
+            .collect(joining(", ", "Tuple(", ")"));
     }
 }
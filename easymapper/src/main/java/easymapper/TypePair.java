@@ -0,0 +1,18 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+@Accessors(fluent = true)
+final class TypePair {
+
+    private final Type sourceType;
+    private final Type targetType;
+}
@@ -10,6 +10,6 @@ public interface TypePredicate {
     TypePredicate ACCEPT_ALL_TYPES = type -> true;
 
     static TypePredicate from(Class<?> type) {
-        return type::equals;
+        return new ExactTypePredicate(type);
     }
 }
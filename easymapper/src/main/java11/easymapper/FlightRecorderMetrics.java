@@ -0,0 +1,147 @@
+package easymapper;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+final class FlightRecorderMetrics implements MappingMetrics {
+
+    @Category("EasyMapper")
+    abstract static class MappingEvent extends Event {
+
+        @Label("Source Type")
+        String sourceType;
+
+        @Label("Target Type")
+        String targetType;
+
+        @Label("Depth")
+        int depth;
+    }
+
+    @Name("easymapper.Convert")
+    @Label("Convert")
+    static final class ConvertEvent extends MappingEvent {
+    }
+
+    @Name("easymapper.Project")
+    @Label("Project")
+    static final class ProjectEvent extends MappingEvent {
+    }
+
+    @Name("easymapper.PlanCompiled")
+    @Label("Plan Compiled")
+    @Category("EasyMapper")
+    static final class PlanCompiledEvent extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Source Type")
+        String sourceType;
+
+        @Label("Target Type")
+        String targetType;
+
+        @Label("Compilation Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long compilationTime;
+    }
+
+    private static final EventType CONVERT_EVENT_TYPE =
+        EventType.getEventType(ConvertEvent.class);
+
+    private static final EventType PROJECT_EVENT_TYPE =
+        EventType.getEventType(ProjectEvent.class);
+
+    private static final EventType PLAN_COMPILED_EVENT_TYPE =
+        EventType.getEventType(PlanCompiledEvent.class);
+
+    private static final ThreadLocal<Deque<MappingEvent>> EVENTS =
+        new ThreadLocal<>();
+
+    @Override
+    public void onStart(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        int depth
+    ) {
+        boolean convert = operation == MappingOperation.CONVERT;
+        EventType eventType = convert ? CONVERT_EVENT_TYPE : PROJECT_EVENT_TYPE;
+        if (eventType.isEnabled() == false) {
+            return;
+        }
+
+        Deque<MappingEvent> events = EVENTS.get();
+        if (events == null) {
+            events = new ArrayDeque<>();
+            EVENTS.set(events);
+        }
+
+        MappingEvent event = convert ? new ConvertEvent() : new ProjectEvent();
+        event.depth = depth;
+        event.begin();
+        events.push(event);
+    }
+
+    @Override
+    public void onCompiled(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        long elapsedNanos
+    ) {
+        if (PLAN_COMPILED_EVENT_TYPE.isEnabled() == false) {
+            return;
+        }
+
+        PlanCompiledEvent event = new PlanCompiledEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.sourceType = sourceType.getTypeName();
+            event.targetType = targetType.getTypeName();
+            event.compilationTime = elapsedNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onEnd(
+        MappingOperation operation,
+        Type sourceType,
+        Type targetType,
+        int depth,
+        long elapsedNanos
+    ) {
+        Deque<MappingEvent> events = EVENTS.get();
+        if (events == null) {
+            return;
+        }
+
+        MappingEvent event = events.peek();
+        while (event != null && event.depth > depth) {
+            events.pop();
+            event = events.peek();
+        }
+
+        if (event == null || event.depth != depth) {
+            return;
+        }
+
+        events.pop();
+        event.end();
+        if (event.shouldCommit()) {
+            event.sourceType = sourceType.getTypeName();
+            event.targetType = targetType.getTypeName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package test.easymapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import easymapper.AggregatingMappingMetrics;
+import easymapper.Mapper;
+import easymapper.MappingMetrics;
+import easymapper.MappingOperation;
+import easymapper.MappingStatistics;
+import easymapper.TypeReference;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AggregatingMappingMetrics_specs {
+
+    @Test
+    void sut_implements_MappingMetrics() {
+        assertThat(MappingMetrics.class)
+            .isAssignableFrom(AggregatingMappingMetrics.class);
+    }
+
+    @AutoParameterizedTest
+    void onEnd_aggregates_count_total_and_max_per_type_pair(
+        long first,
+        long second
+    ) {
+        val sut = new AggregatingMappingMetrics();
+        long elapsed1 = Math.abs(first % 1000);
+        long elapsed2 = Math.abs(second % 1000);
+
+        sut.onEnd(
+            MappingOperation.CONVERT,
+            UUID.class,
+            String.class,
+            0,
+            elapsed1
+        );
+        sut.onEnd(
+            MappingOperation.CONVERT,
+            UUID.class,
+            String.class,
+            1,
+            elapsed2
+        );
+
+        List<MappingStatistics> actual = sut.getStatistics();
+        assertThat(actual).hasSize(1);
+        MappingStatistics statistics = actual.get(0);
+        assertThat(statistics.getOperation())
+            .isEqualTo(MappingOperation.CONVERT);
+        assertThat(statistics.getSourceType()).isEqualTo(UUID.class);
+        assertThat(statistics.getTargetType()).isEqualTo(String.class);
+        assertThat(statistics.getCount()).isEqualTo(2);
+        assertThat(statistics.getTotalNanos()).isEqualTo(elapsed1 + elapsed2);
+        assertThat(statistics.getMaxNanos())
+            .isEqualTo(Math.max(elapsed1, elapsed2));
+    }
+
+    @Test
+    void onEnd_separates_operations() {
+        val sut = new AggregatingMappingMetrics();
+
+        sut.onEnd(MappingOperation.CONVERT, UUID.class, String.class, 0, 1);
+        sut.onEnd(MappingOperation.PROJECT, UUID.class, String.class, 0, 1);
+
+        assertThat(sut.getStatistics()).hasSize(2);
+    }
+
+    @Test
+    void reset_clears_statistics() {
+        val sut = new AggregatingMappingMetrics();
+        sut.onEnd(MappingOperation.CONVERT, UUID.class, String.class, 0, 1);
+
+        sut.reset();
+
+        assertThat(sut.getStatistics()).isEmpty();
+    }
+
+    @AutoParameterizedTest
+    void sut_receives_callbacks_from_mapper(UUID source) {
+        val sut = new AggregatingMappingMetrics();
+        Mapper mapper = new Mapper(config -> config.setMetrics(sut));
+
+        mapper.convert(source, UUID.class, String.class);
+
+        assertThat(sut.getStatistics())
+            .extracting(MappingStatistics::getCount)
+            .containsExactly(1L);
+    }
+
+    @AutoParameterizedTest
+    void mapper_reports_nesting_depth(UUID value) {
+        List<Integer> depths = new ArrayList<>();
+        Mapper mapper = new Mapper(config -> config.setMetrics(
+            (operation, sourceType, targetType, depth, elapsedNanos) ->
+                depths.add(depth)
+        ));
+        List<UUID> source = new ArrayList<>();
+        source.add(value);
+
+        mapper.convert(
+            source,
+            new TypeReference<List<UUID>>() { },
+            new TypeReference<List<String>>() { }
+        );
+
+        assertThat(depths).containsExactly(1, 0);
+    }
+}
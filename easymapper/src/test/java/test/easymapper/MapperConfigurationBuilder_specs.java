@@ -2,10 +2,13 @@ package test.easymapper;
 
 import java.beans.ConstructorProperties;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import easymapper.CollectionPassThrough;
 import easymapper.ConstructorExtractor;
 import easymapper.Mapper;
 import easymapper.MapperConfigurationBuilder;
@@ -22,6 +25,7 @@ import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 
 import static java.lang.String.valueOf;
+import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparingInt;
@@ -273,6 +277,46 @@ public class MapperConfigurationBuilder_specs {
         assertThat(actual.username()).isEqualTo(user.username());
     }
 
+    @AutoParameterizedTest
+    void addConverter_with_predicate_overrides_previous_converter(
+        Post post,
+        String anonymous
+    ) {
+        val mapper = new Mapper(config -> config
+            .addConverter(int.class, String.class, (s, c) -> s.toString())
+            .<Integer, String>addConverter(
+                type -> type.equals(int.class),
+                type -> type.equals(String.class),
+                (s, c) -> anonymous
+            )
+        );
+
+        PostView actual = mapper.convert(post, PostView.class);
+
+        assertThat(actual.id()).isEqualTo(anonymous);
+        assertThat(actual.authorId()).isEqualTo(anonymous);
+    }
+
+    @AutoParameterizedTest
+    void addConverter_overrides_previous_converter_with_predicate(
+        Post post,
+        String anonymous
+    ) {
+        val mapper = new Mapper(config -> config
+            .<Integer, String>addConverter(
+                type -> type.equals(int.class),
+                type -> type.equals(String.class),
+                (s, c) -> anonymous
+            )
+            .addConverter(int.class, String.class, (s, c) -> s.toString())
+        );
+
+        PostView actual = mapper.convert(post, PostView.class);
+
+        assertThat(actual.id()).isEqualTo(valueOf(post.id()));
+        assertThat(actual.authorId()).isEqualTo(valueOf(post.authorId()));
+    }
+
     @Test
     void addProjector_has_null_guard_for_source_type() {
         ThrowingCallable action = () -> new Mapper(
@@ -481,6 +525,84 @@ public class MapperConfigurationBuilder_specs {
         assertThat(view.username()).isEqualTo(user.username());
     }
 
+    @AutoParameterizedTest
+    void addProjector_with_predicate_overrides_previous_projector(
+        User user,
+        UserView view,
+        String anonymous
+    ) {
+        val mapper = new Mapper(config -> config
+            .addProjector(
+                User.class,
+                UserView.class,
+                (source, target, context) -> {
+                    target.id(valueOf(source.id()));
+                    target.username(source.username());
+                }
+            )
+            .<User, UserView>addProjector(
+                type -> type.equals(User.class),
+                type -> type.equals(UserView.class),
+                (source, target, context) -> target.username(anonymous)
+            )
+        );
+
+        mapper.project(user, view);
+
+        assertThat(view.username()).isEqualTo(anonymous);
+    }
+
+    @AutoParameterizedTest
+    void addProjector_overrides_previous_projector_with_predicate(
+        User user,
+        UserView view,
+        String anonymous
+    ) {
+        val mapper = new Mapper(config -> config
+            .<User, UserView>addProjector(
+                type -> type.equals(User.class),
+                type -> type.equals(UserView.class),
+                (source, target, context) -> target.username(anonymous)
+            )
+            .addProjector(
+                User.class,
+                UserView.class,
+                (source, target, context) -> {
+                    target.id(valueOf(source.id()));
+                    target.username(source.username());
+                }
+            )
+        );
+
+        mapper.project(user, view);
+
+        assertThat(view.id()).isEqualTo(valueOf(user.id()));
+        assertThat(view.username()).isEqualTo(user.username());
+    }
+
+    @AutoParameterizedTest
+    void addProjector_with_predicate_applies_after_miss_for_other_type_pair(
+        UserBag userBag,
+        UserViewBag userViewBag,
+        User user,
+        UserView view,
+        String anonymous
+    ) {
+        val mapper = new Mapper(
+            config -> config.<User, UserView>addProjector(
+                type -> type.equals(User.class),
+                type -> type.equals(UserView.class),
+                (source, target, context) -> target.username(anonymous)
+            )
+        );
+
+        mapper.project(userBag, userViewBag);
+        mapper.project(user, view);
+
+        assertThat(userViewBag.value().username()).isEqualTo(anonymous);
+        assertThat(view.username()).isEqualTo(anonymous);
+    }
+
     @Test
     void addExtractor_has_null_guard_for_source_type() {
         ThrowingCallable action = () -> new Mapper(
@@ -718,6 +840,79 @@ public class MapperConfigurationBuilder_specs {
         assertThat(actual.username()).isEqualTo(user.username());
     }
 
+    @AutoParameterizedTest
+    void addExtractor_with_predicate_overrides_previous_extractor(
+        User user,
+        String anonymous
+    ) {
+        val mapper = new Mapper(config -> config
+            .addExtractor(
+                User.class,
+                UserView.class,
+                "id",
+                (source, context) -> valueOf(source.id())
+            )
+            .<User, String>addExtractor(
+                type -> type.equals(User.class),
+                type -> type.equals(UserView.class),
+                "id",
+                (source, context) -> anonymous
+            )
+        );
+
+        UserView actual = mapper.convert(user, UserView.class);
+
+        assertThat(actual.id()).isEqualTo(anonymous);
+    }
+
+    @AutoParameterizedTest
+    void addExtractor_overrides_previous_extractor_with_predicate(
+        User user,
+        String anonymous
+    ) {
+        val mapper = new Mapper(config -> config
+            .<User, String>addExtractor(
+                type -> type.equals(User.class),
+                type -> type.equals(UserView.class),
+                "id",
+                (source, context) -> anonymous
+            )
+            .addExtractor(
+                User.class,
+                UserView.class,
+                "id",
+                (source, context) -> valueOf(source.id())
+            )
+        );
+
+        UserView actual = mapper.convert(user, UserView.class);
+
+        assertThat(actual.id()).isEqualTo(valueOf(user.id()));
+    }
+
+    @AutoParameterizedTest
+    void addExtractor_applies_to_same_type_after_miss_for_other_type_pair(
+        User user,
+        String anonymous
+    ) {
+        val mapper = new Mapper(
+            config -> config.addExtractor(
+                User.class,
+                User.class,
+                "username",
+                (source, context) -> anonymous
+            )
+        );
+
+        UserBag bag = mapper.convert(new UserBag(user), UserBag.class);
+        User actual = mapper.convert(user, User.class);
+
+        assertThat(bag.value().username()).isEqualTo(anonymous);
+        assertThat(actual).isNotSameAs(user);
+        assertThat(actual.id()).isEqualTo(user.id());
+        assertThat(actual.username()).isEqualTo(anonymous);
+    }
+
     @AllArgsConstructor
     @Getter
     public static class Pricing {
@@ -800,6 +995,32 @@ public class MapperConfigurationBuilder_specs {
             .isEqualTo(HasBrokenConstructor.DEFAULT_USERNAME);
     }
 
+    @AutoParameterizedTest
+    void setConstructorExtractor_extracts_constructors_once_per_type(
+        User source
+    ) {
+        // Arrange
+        AtomicInteger invocations = new AtomicInteger();
+        ConstructorExtractor extractor = type -> {
+            if (type.equals(HasBrokenConstructor.class)) {
+                invocations.incrementAndGet();
+            }
+            return asList(type.getConstructors());
+        };
+        Mapper mapper = new Mapper(c -> c.setConstructorExtractor(extractor));
+
+        // Act
+        HasBrokenConstructor target = mapper.convert(
+            source,
+            HasBrokenConstructor.class
+        );
+        mapper.convert(source, HasBrokenConstructor.class);
+        mapper.convert(target, HasBrokenConstructor.class);
+
+        // Assert
+        assertThat(invocations).hasValue(1);
+    }
+
     @AutoParameterizedTest
     void setParameterNameResolver_is_fluent(String name) {
         new Mapper(config -> {
@@ -867,6 +1088,257 @@ public class MapperConfigurationBuilder_specs {
         assertThat(actual).usingRecursiveComparison().isEqualTo(source);
     }
 
+    @Test
+    void setCompilationThreshold_is_fluent() {
+        new Mapper(config -> {
+            MapperConfigurationBuilder actual = config
+                .setCompilationThreshold(0);
+            assertThat(actual).isSameAs(config);
+        });
+    }
+
+    @Test
+    void setCompilationThreshold_has_guard_against_negative_value() {
+        ThrowingCallable callable = () -> new Mapper(
+            config -> config.setCompilationThreshold(-1)
+        );
+
+        assertThatThrownBy(callable)
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @AutoParameterizedTest
+    void setCompilationThreshold_does_not_change_conversion_results(
+        User source
+    ) {
+        Mapper sut = new Mapper(c -> c.setCompilationThreshold(1));
+
+        for (int i = 0; i < 3; i++) {
+            User actual = sut.convert(source, User.class);
+            assertThat(actual).usingRecursiveComparison().isEqualTo(source);
+        }
+    }
+
+    @Getter
+    @Accessors(fluent = true)
+    public static class FailingUser {
+
+        private final int id;
+
+        @ConstructorProperties({ "id" })
+        public FailingUser(int id) {
+            throw new IllegalStateException(valueOf(id));
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    @Accessors(fluent = true)
+    public static class UserDraft {
+
+        private final Integer id;
+        private final String username;
+        private final String passwordHash;
+    }
+
+    @AutoParameterizedTest
+    void setCompilationThreshold_does_not_change_constructor_exceptions(
+        User source
+    ) {
+        Mapper sut = new Mapper(c -> c.setCompilationThreshold(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> sut.convert(source, FailingUser.class))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCauseExactlyInstanceOf(InvocationTargetException.class)
+                .hasRootCauseExactlyInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage(valueOf(source.id()));
+        }
+    }
+
+    @AutoParameterizedTest
+    void setCompilationThreshold_does_not_change_argument_exceptions(
+        String username,
+        String passwordHash
+    ) {
+        Mapper sut = new Mapper(c -> c.setCompilationThreshold(1));
+        UserDraft source = new UserDraft(null, username, passwordHash);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> sut.convert(source, User.class))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCauseExactlyInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    @Accessors(fluent = true)
+    public static class UserSummary {
+
+        private final long id;
+        private final String username;
+    }
+
+    @AutoParameterizedTest
+    void setCompilationThreshold_does_not_change_widened_arguments(
+        User source
+    ) {
+        Mapper sut = new Mapper(c -> c
+            .setCompilationThreshold(1)
+            .<User, Integer>addExtractor(
+                User.class,
+                UserSummary.class,
+                "id",
+                (user, context) -> user.id()
+            ));
+
+        for (int i = 0; i < 3; i++) {
+            UserSummary actual = sut.convert(source, UserSummary.class);
+            assertThat(actual.id()).isEqualTo(source.id());
+        }
+    }
+
+    @AutoParameterizedTest
+    void prepare_does_not_change_widened_arguments(User source) {
+        Mapper sut = new Mapper(c -> c.<User, Integer>addExtractor(
+            User.class,
+            UserSummary.class,
+            "id",
+            (user, context) -> user.id()
+        ));
+
+        sut.prepare(User.class, UserSummary.class);
+        UserSummary actual = sut.convert(source, UserSummary.class);
+
+        assertThat(actual.id()).isEqualTo(source.id());
+    }
+
+    @Test
+    void setCollectionPassThrough_is_fluent() {
+        new Mapper(config -> {
+            MapperConfigurationBuilder actual = config
+                .setCollectionPassThrough(CollectionPassThrough.VIEW);
+            assertThat(actual).isSameAs(config);
+        });
+    }
+
+    @Test
+    void setCollectionPassThrough_has_null_guard() {
+        assertThatThrownBy(
+            () -> new Mapper(config -> config.setCollectionPassThrough(null))
+        )
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("value");
+    }
+
+    @Test
+    void setLazyCollections_is_fluent() {
+        new Mapper(config -> {
+            MapperConfigurationBuilder actual = config.setLazyCollections(true);
+            assertThat(actual).isSameAs(config);
+        });
+    }
+
+    @Test
+    void setParallelThreshold_is_fluent() {
+        new Mapper(config -> {
+            MapperConfigurationBuilder actual = config.setParallelThreshold(1);
+            assertThat(actual).isSameAs(config);
+        });
+    }
+
+    @Test
+    void setParallelThreshold_has_guard_against_non_positive_value() {
+        ThrowingCallable callable = () -> new Mapper(
+            config -> config.setParallelThreshold(0)
+        );
+
+        assertThatThrownBy(callable)
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void setParallelExecutor_has_null_guard() {
+        assertThatThrownBy(
+            () -> new Mapper(config -> config.setParallelExecutor(null))
+        )
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("value");
+    }
+
+    @Test
+    void setCollectionProjection_has_null_guard() {
+        assertThatThrownBy(
+            () -> new Mapper(config -> config.setCollectionProjection(null))
+        )
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("value");
+    }
+
+    @Test
+    void addElementKey_has_null_guard_for_elementType() {
+        assertThatThrownBy(() -> new Mapper(
+            config -> config.addElementKey(null, element -> element)
+        ))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("elementType");
+    }
+
+    @Test
+    void addElementKey_has_null_guard_for_keyExtractor() {
+        assertThatThrownBy(
+            () -> new Mapper(config -> config.addElementKey(User.class, null))
+        )
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("keyExtractor");
+    }
+
+    @Test
+    void setMetrics_has_null_guard() {
+        assertThatThrownBy(() -> new Mapper(config -> config.setMetrics(null)))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("value");
+    }
+
+    @Test
+    void setGeneratedMapperClassLoader_is_fluent() {
+        new Mapper(config -> {
+            MapperConfigurationBuilder actual = config
+                .setGeneratedMapperClassLoader(getClass().getClassLoader());
+            assertThat(actual).isSameAs(config);
+        });
+    }
+
+    @Test
+    void setGeneratedMapperClassLoader_has_null_guard() {
+        assertThatThrownBy(() -> new Mapper(
+            config -> config.setGeneratedMapperClassLoader(null)
+        ))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("value");
+    }
+
+    @Test
+    void setFlightRecorderEnabled_is_fluent() {
+        new Mapper(config -> {
+            MapperConfigurationBuilder actual = config
+                .setFlightRecorderEnabled(true);
+            assertThat(actual).isSameAs(config);
+        });
+    }
+
+    @AutoParameterizedTest
+    void setFlightRecorderEnabled_does_not_change_conversion_results(
+        User source
+    ) {
+        Mapper sut = new Mapper(c -> c.setFlightRecorderEnabled(true));
+
+        User actual = sut.convert(source, User.class);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(source);
+    }
+
     @Test
     void apply_has_null_guard_for_configurer() {
         assertThatThrownBy(() -> new Mapper(config -> config.apply(null)))
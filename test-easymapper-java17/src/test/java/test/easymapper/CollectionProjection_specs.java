@@ -0,0 +1,35 @@
+package test.easymapper;
+
+import java.util.List;
+
+import easymapper.CollectionProjection;
+import easymapper.Mapper;
+import lombok.Getter;
+import lombok.Setter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CollectionProjection_specs {
+
+    public record Post(List<String> tags) {
+    }
+
+    @Getter
+    @Setter
+    public static class PostEntity {
+
+        private List<String> tags;
+    }
+
+    @AutoParameterizedTest
+    void sut_replaces_immutable_list_in_place_mode(Post source, String tag) {
+        var sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE));
+        var target = new PostEntity();
+        target.setTags(List.of(tag));
+
+        sut.project(source, target);
+
+        assertThat(target.getTags()).containsExactlyElementsOf(source.tags());
+    }
+}
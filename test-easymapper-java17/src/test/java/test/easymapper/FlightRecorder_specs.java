@@ -0,0 +1,109 @@
+package test.easymapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import easymapper.Mapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorder_specs {
+
+    public record User(long id, String username) {
+    }
+
+    public record UserView(long id, String username) {
+    }
+
+    private static List<RecordedEvent> record(
+        Consumer<Recording> configure,
+        Runnable action
+    ) throws IOException {
+        Path file = Files.createTempFile("easymapper", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                configure.accept(recording);
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+            }
+
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> eventsOf(
+        List<RecordedEvent> events,
+        String name
+    ) {
+        return events
+            .stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+    }
+
+    @Test
+    void convert_emits_convert_events() throws IOException {
+        Mapper sut = new Mapper(c -> c.setFlightRecorderEnabled(true));
+
+        List<RecordedEvent> events = record(
+            recording -> recording.enable("easymapper.Convert"),
+            () -> sut.convert(new User(1, "foo"), UserView.class)
+        );
+
+        assertThat(eventsOf(events, "easymapper.Convert")).anySatisfy(event -> {
+            assertThat(event.getString("sourceType"))
+                .isEqualTo(User.class.getTypeName());
+            assertThat(event.getString("targetType"))
+                .isEqualTo(UserView.class.getTypeName());
+            assertThat(event.getInt("depth")).isZero();
+        });
+        assertThat(eventsOf(events, "easymapper.Convert")).anySatisfy(event -> {
+            assertThat(event.getString("sourceType"))
+                .isEqualTo(String.class.getTypeName());
+            assertThat(event.getInt("depth")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void convert_emits_plan_compiled_events() throws IOException {
+        Mapper sut = new Mapper(c -> c.setFlightRecorderEnabled(true));
+
+        List<RecordedEvent> events = record(
+            recording -> recording.enable("easymapper.PlanCompiled"),
+            () -> sut.convert(new User(1, "foo"), UserView.class)
+        );
+
+        assertThat(eventsOf(events, "easymapper.PlanCompiled"))
+            .anySatisfy(event -> {
+                assertThat(event.getString("operation")).isEqualTo("CONVERT");
+                assertThat(event.getString("sourceType"))
+                    .isEqualTo(User.class.getTypeName());
+                assertThat(event.getString("targetType"))
+                    .isEqualTo(UserView.class.getTypeName());
+                assertThat(event.getLong("compilationTime")).isNotNegative();
+            });
+    }
+
+    @Test
+    void convert_emits_no_events_of_disabled_type() throws IOException {
+        Mapper sut = new Mapper(c -> c.setFlightRecorderEnabled(true));
+
+        List<RecordedEvent> events = record(
+            recording -> recording.disable("easymapper.Convert"),
+            () -> sut.convert(new User(1, "foo"), UserView.class)
+        );
+
+        assertThat(eventsOf(events, "easymapper.Convert")).isEmpty();
+    }
+}
@@ -14,6 +14,7 @@ java {
 
 dependencies {
     testImplementation(project(":easymapper"))
+    testAnnotationProcessor(project(":easymapper-processor"))
     testImplementation("org.junit.jupiter:junit-jupiter-api:5.6.0")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.6.0")
     testImplementation("io.github.autoparams:autoparams:10.1.0")
@@ -0,0 +1,130 @@
+package test.easymapper;
+
+import easymapper.Mapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForArrayMapping {
+
+    @AllArgsConstructor
+    @Getter
+    public static class IntArrayBag {
+
+        private final int[] value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class IntegerListBag {
+
+        private final List<Integer> value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDArrayBag {
+
+        private final UUID[] value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringArrayBag {
+
+        private final String[] value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringSetBag {
+
+        private final Set<String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_maps_null_array_to_null(Mapper sut) {
+        val source = new IntArrayBag(null);
+
+        IntArrayBag target = sut.convert(source, IntArrayBag.class);
+
+        assertThat(target.getValue()).isNull();
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_copies_primitive_array(Mapper sut, int[] value) {
+        val source = new IntArrayBag(value);
+
+        IntArrayBag target = sut.convert(source, IntArrayBag.class);
+
+        assertThat(target.getValue()).isNotSameAs(value).isEqualTo(value);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_primitive_array_to_list(
+        Mapper sut,
+        int[] value
+    ) {
+        val source = new IntArrayBag(value);
+
+        IntegerListBag target = sut.convert(source, IntegerListBag.class);
+
+        assertThat(target.getValue()).isEqualTo(Arrays
+            .stream(value)
+            .boxed()
+            .collect(Collectors.toList()));
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_list_to_primitive_array(
+        Mapper sut,
+        IntegerListBag source
+    ) {
+        IntArrayBag target = sut.convert(source, IntArrayBag.class);
+
+        assertThat(target.getValue()).isEqualTo(source
+            .getValue()
+            .stream()
+            .mapToInt(Integer::intValue)
+            .toArray());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_array_elements(
+        Mapper sut,
+        UUIDArrayBag source
+    ) {
+        StringArrayBag target = sut.convert(source, StringArrayBag.class);
+
+        assertThat(target.getValue()).isEqualTo(Arrays
+            .stream(source.getValue())
+            .map(UUID::toString)
+            .toArray(String[]::new));
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_array_to_set(
+        Mapper sut,
+        StringArrayBag source
+    ) {
+        StringSetBag target = sut.convert(source, StringSetBag.class);
+
+        assertThat(target.getValue())
+            .containsExactlyElementsOf(Arrays.asList(source.getValue()));
+    }
+}
@@ -1,5 +1,6 @@
 package test.easymapper;
 
+import easymapper.CollectionPassThrough;
 import easymapper.Mapper;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -8,12 +9,30 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.reverseOrder;
+import static java.util.Comparator.comparing;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 public class SpecsForCollectionMapping {
 
@@ -111,4 +130,430 @@ public class SpecsForCollectionMapping {
             .map(UUID::toString)
             .collect(Collectors.toList()));
     }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringSetBag {
+
+        private final Set<String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_set_constructor_properties(
+        Mapper sut,
+        UUIDIterableBag source
+    ) {
+        StringSetBag target = sut.convert(source, StringSetBag.class);
+
+        Set<String> actual = target.getValue();
+        assertThat(actual).isInstanceOf(LinkedHashSet.class);
+        assertThat(actual).containsExactlyElementsOf(StreamSupport
+            .stream(source.getValue().spliterator(), false)
+            .map(UUID::toString)
+            .collect(Collectors.toList()));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringSortedSetBag {
+
+        private final SortedSet<String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_sorted_set_constructor_properties(
+        Mapper sut,
+        UUIDIterableBag source
+    ) {
+        StringSortedSetBag target = sut.convert(
+            source,
+            StringSortedSetBag.class
+        );
+
+        SortedSet<String> actual = target.getValue();
+        assertThat(actual).isInstanceOf(TreeSet.class);
+        assertThat(actual).containsExactlyElementsOf(StreamSupport
+            .stream(source.getValue().spliterator(), false)
+            .map(UUID::toString)
+            .sorted()
+            .collect(Collectors.toList()));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringDequeBag {
+
+        private final Deque<String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_deque_constructor_properties(
+        Mapper sut,
+        UUIDIterableBag source
+    ) {
+        StringDequeBag target = sut.convert(source, StringDequeBag.class);
+
+        Deque<String> actual = target.getValue();
+        assertThat(actual).isInstanceOf(LinkedList.class);
+        assertThat(actual).containsExactlyElementsOf(StreamSupport
+            .stream(source.getValue().spliterator(), false)
+            .map(UUID::toString)
+            .collect(Collectors.toList()));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDDequeBag {
+
+        private final Deque<UUID> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_keeps_null_elements_of_deque(Mapper sut, UUID element) {
+        val source = new UUIDListBag(asList(element, null));
+
+        UUIDDequeBag target = sut.convert(source, UUIDDequeBag.class);
+
+        assertThat(target.getValue()).containsExactly(element, null);
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Tag {
+
+        private final String name;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class TagSortedSetBag {
+
+        private final SortedSet<Tag> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_keeps_comparator_of_sorted_set(
+        Mapper sut,
+        String first,
+        String second
+    ) {
+        SortedSet<Tag> tags = new TreeSet<>(comparing(Tag::getName));
+        tags.add(new Tag(second));
+        tags.add(new Tag(first));
+
+        TagSortedSetBag target = sut.convert(
+            new TagSortedSetBag(tags),
+            TagSortedSetBag.class
+        );
+
+        SortedSet<Tag> actual = target.getValue();
+        assertThat(actual.comparator()).isSameAs(tags.comparator());
+        assertThat(actual)
+            .extracting(Tag::getName)
+            .containsExactlyElementsOf(tags
+                .stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList()));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDSortedSetBag {
+
+        private final SortedSet<UUID> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_keeps_comparator_of_sorted_set_of_same_elements(
+        Mapper sut,
+        UUIDListBag source
+    ) {
+        SortedSet<UUID> elements = new TreeSet<>(reverseOrder());
+        elements.addAll(source.getValue());
+
+        UUIDSortedSetBag target = sut.convert(
+            new UUIDSortedSetBag(elements),
+            UUIDSortedSetBag.class
+        );
+
+        assertThat(target.getValue().comparator())
+            .isSameAs(elements.comparator());
+        assertThat(target.getValue()).containsExactlyElementsOf(elements);
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringLinkedListBag {
+
+        private final LinkedList<String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_concrete_collection_constructor_properties(
+        Mapper sut,
+        UUIDIterableBag source
+    ) {
+        StringLinkedListBag target = sut.convert(
+            source,
+            StringLinkedListBag.class
+        );
+
+        LinkedList<String> actual = target.getValue();
+        assertThat(actual).containsExactlyElementsOf(StreamSupport
+            .stream(source.getValue().spliterator(), false)
+            .map(UUID::toString)
+            .collect(Collectors.toList()));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDListBag {
+
+        private final List<UUID> value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDHashSetBag {
+
+        private final HashSet<UUID> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_copies_elements_of_same_type_into_set(
+        Mapper sut,
+        UUIDListBag source
+    ) {
+        UUIDHashSetBag target = sut.convert(source, UUIDHashSetBag.class);
+
+        HashSet<UUID> actual = target.getValue();
+        assertThat(actual).hasSameClassAs(new HashSet<>());
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(
+            source.getValue()
+        );
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDCollectionBag {
+
+        private final Collection<UUID> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_copies_elements_of_same_type_by_default(
+        Mapper sut,
+        UUIDListBag source
+    ) {
+        UUIDCollectionBag target = sut.convert(source, UUIDCollectionBag.class);
+
+        assertThat(target.getValue())
+            .isNotSameAs(source.getValue())
+            .containsExactlyElementsOf(source.getValue());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_returns_unmodifiable_view_if_pass_through_is_view(
+        UUIDListBag source
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionPassThrough(CollectionPassThrough.VIEW));
+
+        UUIDListBag target = sut.convert(source, UUIDListBag.class);
+
+        List<UUID> actual = target.getValue();
+        assertThat(actual).containsExactlyElementsOf(source.getValue());
+        assertThatThrownBy(() -> actual.add(UUID.randomUUID()))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_copies_elements_if_view_cannot_be_assigned_to_target(
+        UUIDListBag source
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionPassThrough(CollectionPassThrough.VIEW));
+
+        UUIDHashSetBag target = sut.convert(source, UUIDHashSetBag.class);
+
+        assertThat(target.getValue())
+            .containsExactlyInAnyOrderElementsOf(source.getValue());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_converts_elements_on_access_if_collections_are_lazy(
+        UUIDListBag source
+    ) {
+        List<UUID> converted = new ArrayList<>();
+        Mapper sut = new Mapper(config -> config
+            .setLazyCollections(true)
+            .addConverter(UUID.class, String.class, (element, context) -> {
+                converted.add(element);
+                return element.toString();
+            }));
+
+        StringListBag target = sut.convert(source, StringListBag.class);
+        assertThat(converted).isEmpty();
+
+        String actual = target.getValue().get(1);
+        target.getValue().get(1);
+
+        assertThat(actual).isEqualTo(source.getValue().get(1).toString());
+        assertThat(converted).containsExactly(source.getValue().get(1));
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_lazy_collection_elements(UUIDListBag source) {
+        Mapper sut = new Mapper(config -> config.setLazyCollections(true));
+
+        StringListBag target = sut.convert(source, StringListBag.class);
+
+        assertThat(target.getValue()).isEqualTo(source
+            .getValue()
+            .stream()
+            .map(UUID::toString)
+            .collect(Collectors.toList()));
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_isolates_lazy_collection_from_later_changes_to_source(
+        UUID first,
+        UUID second,
+        UUID other
+    ) {
+        Mapper sut = new Mapper(config -> config.setLazyCollections(true));
+        List<UUID> elements = new ArrayList<>();
+        elements.add(first);
+        elements.add(second);
+
+        StringListBag target = sut.convert(
+            new UUIDListBag(elements),
+            StringListBag.class
+        );
+        elements.set(0, other);
+        elements.add(other);
+
+        assertThat(target.getValue()).containsExactly(
+            first.toString(),
+            second.toString()
+        );
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_keeps_order_of_elements_converted_in_parallel(
+        UUIDListBag source
+    ) {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            tasks.incrementAndGet();
+            new Thread(task).start();
+        };
+        List<UUID> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.addAll(source.getValue());
+        }
+        Mapper sut = new Mapper(config -> config
+            .setParallelThreshold(2)
+            .setParallelExecutor(executor));
+
+        StringListBag target = sut.convert(
+            new UUIDListBag(elements),
+            StringListBag.class
+        );
+
+        assertThat(tasks.get()).isPositive();
+        assertThat(target.getValue()).isEqualTo(elements
+            .stream()
+            .map(UUID::toString)
+            .collect(Collectors.toList()));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDListListBag {
+
+        private final List<List<UUID>> value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringListListBag {
+
+        private final List<List<String>> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_runs_nested_parallel_conversion_on_bounded_executor(
+        UUID element
+    ) {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            List<List<UUID>> elements = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                elements.add(nCopies(600, element));
+            }
+            Mapper sut = new Mapper(config -> config
+                .setParallelThreshold(2)
+                .setParallelExecutor(executor));
+
+            StringListListBag target = assertTimeoutPreemptively(
+                ofSeconds(10),
+                () -> sut.convert(
+                    new UUIDListListBag(elements),
+                    StringListListBag.class
+                )
+            );
+
+            assertThat(target.getValue()).hasSize(600);
+            assertThat(target.getValue()).allSatisfy(actual -> assertThat(
+                actual
+            ).hasSize(600).containsOnly(element.toString()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_stops_parallel_conversion_on_failure(UUIDListBag source) {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<UUID> elements = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                elements.addAll(source.getValue());
+            }
+            AtomicInteger conversions = new AtomicInteger();
+            Mapper sut = new Mapper(config -> config
+                .setParallelThreshold(2)
+                .setParallelExecutor(executor)
+                .addConverter(UUID.class, String.class, (value, context) -> {
+                    conversions.incrementAndGet();
+                    throw new IllegalStateException();
+                }));
+
+            assertThatThrownBy(() -> sut.convert(
+                new UUIDListBag(elements),
+                StringListBag.class
+            )).isInstanceOf(IllegalStateException.class);
+            assertThat(conversions.get()).isLessThan(elements.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
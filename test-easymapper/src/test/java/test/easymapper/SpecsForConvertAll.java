@@ -0,0 +1,133 @@
+package test.easymapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import easymapper.Mapper;
+import easymapper.TypeReference;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("DataFlowIssue")
+public class SpecsForConvertAll {
+
+    @AllArgsConstructor
+    @Getter
+    public static class User {
+
+        private final long id;
+        private final String username;
+        private final String passwordHash;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UserView {
+
+        private final long id;
+        private final String username;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convertAll_has_null_guard_for_source(Mapper sut) {
+        List<User> source = null;
+        assertThatThrownBy(
+            () -> sut.convertAll(source, User.class, UserView.class)
+        )
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("source");
+    }
+
+    @Test
+    @AutoDomainParams
+    void convertAll_has_null_guard_for_target(
+        Mapper sut,
+        List<User> source
+    ) {
+        List<UserView> target = null;
+        assertThatThrownBy(
+            () -> sut.convertAll(source, User.class, UserView.class, target)
+        )
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("target");
+    }
+
+    @Test
+    @AutoDomainParams
+    void convertAll_correctly_converts_elements_in_order(
+        Mapper sut,
+        List<User> source
+    ) {
+        List<UserView> actual = sut.convertAll(
+            source,
+            User.class,
+            UserView.class
+        );
+
+        assertThat(actual).hasSameSizeAs(source);
+        for (int i = 0; i < source.size(); i++) {
+            assertThat(actual.get(i).getId()).isEqualTo(source.get(i).getId());
+            assertThat(actual.get(i).getUsername())
+                .isEqualTo(source.get(i).getUsername());
+        }
+    }
+
+    @Test
+    @AutoDomainParams
+    void convertAll_without_source_type_converts_null_element_to_null(
+        Mapper sut,
+        User user
+    ) {
+        List<User> source = Arrays.asList(user, null);
+
+        List<UserView> actual = sut.convertAll(source, UserView.class);
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getUsername()).isEqualTo(user.getUsername());
+        assertThat(actual.get(1)).isNull();
+    }
+
+    @Test
+    @AutoDomainParams
+    void convertAll_correctly_converts_elements_with_type_references(
+        Mapper sut,
+        List<UUID> source
+    ) {
+        List<String> actual = sut.convertAll(
+            source,
+            new TypeReference<UUID>() { },
+            new TypeReference<String>() { }
+        );
+
+        assertThat(actual).containsExactlyElementsOf(
+            source.stream().map(UUID::toString).collect(toList())
+        );
+    }
+
+    @Test
+    @AutoDomainParams
+    void convertAll_appends_elements_to_target(
+        Mapper sut,
+        String existing,
+        List<UUID> source
+    ) {
+        List<Object> target = new ArrayList<>();
+        target.add(existing);
+
+        sut.convertAll(source, UUID.class, String.class, target);
+
+        assertThat(target).hasSize(source.size() + 1);
+        assertThat(target.get(0)).isEqualTo(existing);
+        assertThat(target.subList(1, target.size())).containsExactlyElementsOf(
+            source.stream().map(UUID::toString).collect(toList())
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package test.easymapper;
+
+import java.util.UUID;
+
+import easymapper.Mapper;
+import easymapper.MappingExplanation;
+import easymapper.MappingStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForDeepCopy {
+
+    @AllArgsConstructor
+    @Getter
+    public static class Order {
+
+        private final UUID id;
+        private final String memo;
+        private final Shipment shipment;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Shipment {
+
+        private final String recipientName;
+        private final Address address;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Address {
+
+        private final String country;
+        private final String city;
+    }
+
+    @Getter
+    @Setter
+    public static class OrderEntity {
+
+        private Long id;
+        private String memo;
+        private Address address;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_copies_mutable_children_of_same_type(
+        Mapper sut,
+        Order source
+    ) {
+        Order actual = sut.convert(source, Order.class);
+
+        assertThat(actual).isNotSameAs(source);
+        assertThat(actual.getShipment()).isNotSameAs(source.getShipment());
+        assertThat(actual.getShipment().getAddress())
+            .isNotSameAs(source.getShipment().getAddress());
+        assertThat(actual).usingRecursiveComparison().isEqualTo(source);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_shares_immutable_values_of_same_type(
+        Mapper sut,
+        Order source
+    ) {
+        Order actual = sut.convert(source, Order.class);
+
+        assertThat(actual.getId()).isSameAs(source.getId());
+        assertThat(actual.getMemo()).isSameAs(source.getMemo());
+        assertThat(actual.getShipment().getRecipientName())
+            .isSameAs(source.getShipment().getRecipientName());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_copies_setter_properties_of_same_type(
+        Mapper sut,
+        Long id,
+        String memo,
+        Address address
+    ) {
+        OrderEntity source = new OrderEntity();
+        source.setId(id);
+        source.setMemo(memo);
+        source.setAddress(address);
+
+        OrderEntity actual = sut.convert(source, OrderEntity.class);
+
+        assertThat(actual).isNotSameAs(source);
+        assertThat(actual.getId()).isEqualTo(id);
+        assertThat(actual.getMemo()).isEqualTo(memo);
+        assertThat(actual.getAddress())
+            .isNotSameAs(address)
+            .usingRecursiveComparison()
+            .isEqualTo(address);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_applies_registered_converter_while_copying(Order source) {
+        Mapper sut = new Mapper(config -> config.addConverter(
+            String.class,
+            String.class,
+            (s, context) -> s.toUpperCase()
+        ));
+
+        Order actual = sut.convert(source, Order.class);
+
+        assertThat(actual.getMemo()).isEqualTo(source.getMemo().toUpperCase());
+        assertThat(actual.getShipment().getRecipientName()).isEqualTo(
+            source.getShipment().getRecipientName().toUpperCase()
+        );
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_applies_registered_projector_instead_of_copying(
+        OrderEntity source,
+        String memo
+    ) {
+        Mapper sut = new Mapper(config -> config.addProjector(
+            OrderEntity.class,
+            OrderEntity.class,
+            (s, t, context) -> t.setMemo(memo)
+        ));
+
+        OrderEntity actual = sut.convert(source, OrderEntity.class);
+
+        assertThat(actual.getMemo()).isEqualTo(memo);
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_reports_clone_strategy_for_same_type(Mapper sut) {
+        MappingExplanation actual = sut.explain(Order.class, Order.class);
+
+        assertThat(actual.getStrategy()).isEqualTo(MappingStrategy.CLONE);
+    }
+}
@@ -0,0 +1,325 @@
+package test.easymapper;
+
+import java.util.List;
+import java.util.Set;
+
+import easymapper.Converter;
+import easymapper.Extractor;
+import easymapper.Mapper;
+import easymapper.MappingExplanation;
+import easymapper.MappingOperation;
+import easymapper.MappingStrategy;
+import easymapper.PropertyExplanation;
+import easymapper.PropertySource;
+import easymapper.PropertyStrategy;
+import easymapper.TypeReference;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("DataFlowIssue")
+public class SpecsForExplain {
+
+    @AllArgsConstructor
+    @Getter
+    public static class Shipment {
+
+        private final long id;
+        private final Recipient recipient;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Recipient {
+
+        private final String name;
+        private final String phoneNumber;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class ShipmentView {
+
+        private final long id;
+        private final String recipientName;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class ShipmentCopy {
+
+        private final long id;
+        private final Recipient recipient;
+    }
+
+    @Getter
+    @Setter
+    public static class ShipmentEntity {
+
+        private long id;
+        private String recipientName;
+        private String recipientPhoneNumber;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Category {
+
+        private final String name;
+        private final List<Category> children;
+    }
+
+    private static PropertyExplanation getProperty(
+        MappingExplanation explanation,
+        String name,
+        PropertyStrategy strategy
+    ) {
+        return explanation
+            .getProperties()
+            .stream()
+            .filter(property -> property.getName().equals(name))
+            .filter(property -> property.getStrategy() == strategy)
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_has_null_guard_for_source_type(Mapper sut) {
+        Class<Shipment> sourceType = null;
+        assertThatThrownBy(() -> sut.explain(sourceType, ShipmentView.class))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("sourceType");
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_has_null_guard_for_target_type(Mapper sut) {
+        Class<ShipmentView> targetType = null;
+        assertThatThrownBy(() -> sut.explain(Shipment.class, targetType))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("targetType");
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_describes_constructor_arguments(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+
+        assertThat(actual.getOperation()).isEqualTo(MappingOperation.CONVERT);
+        assertThat(actual.getSourceType()).isEqualTo(Shipment.class);
+        assertThat(actual.getTargetType()).isEqualTo(ShipmentView.class);
+        assertThat(actual.getStrategy())
+            .isEqualTo(MappingStrategy.CONSTRUCTION);
+        PropertyExplanation id = getProperty(
+            actual,
+            "id",
+            PropertyStrategy.CONSTRUCTOR_ARGUMENT
+        );
+        assertThat(id.getSource()).isEqualTo(PropertySource.PROPERTY);
+        assertThat(id.getSourcePath()).isEqualTo(singletonList("id"));
+        assertThat(id.getMapping().getSourceType()).isEqualTo(long.class);
+        assertThat(id.getMapping().getStrategy())
+            .isEqualTo(MappingStrategy.CONVERTER);
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_describes_flattened_paths(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+
+        PropertyExplanation recipientName = getProperty(
+            actual,
+            "recipientName",
+            PropertyStrategy.CONSTRUCTOR_ARGUMENT
+        );
+        assertThat(recipientName.getSource())
+            .isEqualTo(PropertySource.FLATTENED_PATH);
+        assertThat(recipientName.getSourcePath())
+            .isEqualTo(asList("recipient", "name"));
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_describes_setters(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentEntity.class
+        );
+
+        PropertyExplanation recipientPhoneNumber = getProperty(
+            actual,
+            "recipientPhoneNumber",
+            PropertyStrategy.SETTER
+        );
+        assertThat(recipientPhoneNumber.getSource())
+            .isEqualTo(PropertySource.FLATTENED_PATH);
+        assertThat(recipientPhoneNumber.getMapping().getTargetType())
+            .isEqualTo(String.class);
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_describes_unflattened_tuples(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            ShipmentEntity.class,
+            Shipment.class
+        );
+
+        PropertyExplanation recipient = getProperty(
+            actual,
+            "recipient",
+            PropertyStrategy.CONSTRUCTOR_ARGUMENT
+        );
+        assertThat(recipient.getSource())
+            .isEqualTo(PropertySource.UNFLATTENED_TUPLE);
+        assertThat(recipient.getSourcePath())
+            .isEqualTo(asList("recipientName", "recipientPhoneNumber"));
+        assertThat(recipient.getMapping().getTargetType())
+            .isEqualTo(Recipient.class);
+        assertThat(recipient.getMapping().getStrategy())
+            .isEqualTo(MappingStrategy.CONSTRUCTION);
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_describes_read_only_projections(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentCopy.class
+        );
+
+        PropertyExplanation recipient = getProperty(
+            actual,
+            "recipient",
+            PropertyStrategy.READ_ONLY_PROJECTION
+        );
+        assertThat(recipient.getMapping().getOperation())
+            .isEqualTo(MappingOperation.PROJECT);
+        assertThat(recipient.getMapping().getStrategy())
+            .isEqualTo(MappingStrategy.PROJECTION);
+    }
+
+    @Test
+    void explain_reports_matched_converter() {
+        Converter<Shipment, ShipmentView> converter = (source, context) -> null;
+        Mapper sut = new Mapper(config -> config.addConverter(
+            Shipment.class,
+            ShipmentView.class,
+            converter
+        ));
+
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+
+        assertThat(actual.getStrategy()).isEqualTo(MappingStrategy.CONVERTER);
+        assertThat(actual.getConverter()).isSameAs(converter);
+        assertThat(actual.getProperties()).isEmpty();
+    }
+
+    @Test
+    void explain_reports_matched_extractor() {
+        Extractor<Shipment, String> extractor = (source, context) -> null;
+        Mapper sut = new Mapper(config -> config.addExtractor(
+            Shipment.class,
+            ShipmentView.class,
+            "recipientName",
+            extractor
+        ));
+
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+
+        PropertyExplanation recipientName = getProperty(
+            actual,
+            "recipientName",
+            PropertyStrategy.CONSTRUCTOR_ARGUMENT
+        );
+        assertThat(recipientName.getSource())
+            .isEqualTo(PropertySource.EXTRACTOR);
+        assertThat(recipientName.getExtractor()).isSameAs(extractor);
+        assertThat(recipientName.getMapping()).isNull();
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_describes_collection_element_pairs(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            new TypeReference<List<Shipment>>() { },
+            new TypeReference<Set<ShipmentView>>() { }
+        );
+
+        assertThat(actual.getStrategy()).isEqualTo(MappingStrategy.CONVERTER);
+        assertThat(actual.getElements()).hasSize(1);
+        assertThat(actual.getElements().get(0).getSourceType())
+            .isEqualTo(Shipment.class);
+        assertThat(actual.getElements().get(0).getTargetType())
+            .isEqualTo(ShipmentView.class);
+    }
+
+    @Test
+    void explain_reports_no_element_pairs_for_custom_container_converter() {
+        TypeReference<List<Shipment>> sourceType =
+            new TypeReference<List<Shipment>>() { };
+        TypeReference<List<ShipmentView>> targetType =
+            new TypeReference<List<ShipmentView>>() { };
+        Converter<List<Shipment>, List<ShipmentView>> converter =
+            (source, context) -> null;
+        Mapper sut = new Mapper(config -> config.addConverter(
+            type -> type.equals(sourceType.getType()),
+            type -> type.equals(targetType.getType()),
+            converter
+        ));
+
+        MappingExplanation actual = sut.explain(sourceType, targetType);
+
+        assertThat(actual.getStrategy()).isEqualTo(MappingStrategy.CONVERTER);
+        assertThat(actual.getConverter()).isSameAs(converter);
+        assertThat(actual.getElements()).isEmpty();
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_stops_at_recursive_type_pairs(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            Category.class,
+            Category.class
+        );
+
+        MappingExplanation children = getProperty(
+            actual,
+            "children",
+            PropertyStrategy.CONSTRUCTOR_ARGUMENT
+        ).getMapping();
+        assertThat(children.getElements().get(0).getStrategy())
+            .isEqualTo(MappingStrategy.RECURSION);
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_renders_tree(Mapper sut) {
+        MappingExplanation actual = sut.explain(
+            ShipmentEntity.class,
+            Shipment.class
+        );
+
+        assertThat(actual.toString())
+            .contains("UNFLATTENED_TUPLE recipientName, recipientPhoneNumber");
+    }
+}
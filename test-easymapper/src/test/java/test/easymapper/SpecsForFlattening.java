@@ -10,6 +10,7 @@ import lombok.Setter;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SpecsForFlattening {
 
@@ -98,6 +99,22 @@ public class SpecsForFlattening {
             .isEqualTo(source.getRecipient().getPhoneNumber());
     }
 
+    @Test
+    @AutoDomainParams
+    void convert_correctly_flattens_nested_properties_for_each_source(
+        Mapper sut,
+        Shipment first,
+        Shipment second
+    ) {
+        ShipmentEntity actual1 = sut.convert(first, ShipmentEntity.class);
+        ShipmentEntity actual2 = sut.convert(second, ShipmentEntity.class);
+
+        assertThat(actual1.getRecipientName())
+            .isEqualTo(first.getRecipient().getName());
+        assertThat(actual2.getRecipientName())
+            .isEqualTo(second.getRecipient().getName());
+    }
+
     @Test
     @AutoDomainParams
     @UseNull(Recipient.class)
@@ -133,6 +150,61 @@ public class SpecsForFlattening {
             .isEqualTo(source.getAddressZipCode());
     }
 
+    @Test
+    @AutoDomainParams
+    void convert_correctly_unflattens_properties_for_each_source(
+        Mapper sut,
+        ShipmentEntity first,
+        ShipmentEntity second
+    ) {
+        Shipment actual1 = sut.convert(first, Shipment.class);
+        Shipment actual2 = sut.convert(second, Shipment.class);
+
+        assertThat(actual1.getAddress().getCity())
+            .isEqualTo(first.getAddressCity());
+        assertThat(actual2.getAddress().getCity())
+            .isEqualTo(second.getAddressCity());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_unflattens_null_properties_for_constructors(
+        Mapper sut,
+        ShipmentEntity source
+    ) {
+        source.setAddressCity(null);
+
+        Shipment target = sut.convert(source, Shipment.class);
+
+        assertThat(target.getAddress().getCountry())
+            .isEqualTo(source.getAddressCountry());
+        assertThat(target.getAddress().getCity()).isNull();
+        assertThat(target.getAddress().getZipCode())
+            .isEqualTo(source.getAddressZipCode());
+    }
+
+    @Getter
+    @Setter
+    public static class PartialShipmentEntity {
+
+        private Long id;
+
+        private String recipientName;
+
+        private String addressCountry;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_fails_to_unflatten_constructor_argument_without_property(
+        Mapper sut,
+        PartialShipmentEntity source
+    ) {
+        assertThatThrownBy(() -> sut.convert(source, Shipment.class))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("phoneNumber");
+    }
+
     @Getter
     @Setter
     public static class ShipmentDto {
@@ -0,0 +1,470 @@
+package test.easymapper;
+
+import java.beans.ConstructorProperties;
+import java.io.IOException;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import easymapper.GenerateMapping;
+import easymapper.GeneratedMapper;
+import easymapper.Mapper;
+import easymapper.MappingExplanation;
+import easymapper.MappingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.list;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GenerateMapping(
+    source = SpecsForGeneratedMapping.Shipment.class,
+    target = SpecsForGeneratedMapping.ShipmentView.class
+)
+@GenerateMapping(
+    source = SpecsForGeneratedMapping.Shipment.class,
+    target = SpecsForGeneratedMapping.ShipmentEntity.class
+)
+@GenerateMapping(
+    source = SpecsForGeneratedMapping.ShipmentEntity.class,
+    target = SpecsForGeneratedMapping.Shipment.class
+)
+public class SpecsForGeneratedMapping {
+
+    public static class Shipment {
+
+        private final long id;
+        private final Recipient recipient;
+
+        @ConstructorProperties({ "id", "recipient" })
+        public Shipment(long id, Recipient recipient) {
+            this.id = id;
+            this.recipient = recipient;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Recipient getRecipient() {
+            return recipient;
+        }
+    }
+
+    public static class Recipient {
+
+        private final String name;
+        private final String phoneNumber;
+
+        @ConstructorProperties({ "name", "phoneNumber" })
+        public Recipient(String name, String phoneNumber) {
+            this.name = name;
+            this.phoneNumber = phoneNumber;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPhoneNumber() {
+            return phoneNumber;
+        }
+    }
+
+    public static class ShipmentView {
+
+        private final long id;
+        private final String recipientName;
+        private final String recipientPhoneNumber;
+
+        @ConstructorProperties({ "id", "recipientName", "recipientPhoneNumber" })
+        public ShipmentView(
+            long id,
+            String recipientName,
+            String recipientPhoneNumber
+        ) {
+            this.id = id;
+            this.recipientName = recipientName;
+            this.recipientPhoneNumber = recipientPhoneNumber;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getRecipientName() {
+            return recipientName;
+        }
+
+        public String getRecipientPhoneNumber() {
+            return recipientPhoneNumber;
+        }
+    }
+
+    public static class ShipmentEntity {
+
+        private Long id;
+        private String recipientName;
+        private String recipientPhoneNumber;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getRecipientName() {
+            return recipientName;
+        }
+
+        public void setRecipientName(String recipientName) {
+            this.recipientName = recipientName;
+        }
+
+        public String getRecipientPhoneNumber() {
+            return recipientPhoneNumber;
+        }
+
+        public void setRecipientPhoneNumber(String recipientPhoneNumber) {
+            this.recipientPhoneNumber = recipientPhoneNumber;
+        }
+    }
+
+    @Test
+    void generated_mappers_are_registered_as_services() {
+        boolean registered = false;
+        for (GeneratedMapper<?, ?> mapper
+            : ServiceLoader.load(GeneratedMapper.class)) {
+            registered |= mapper.sourceType().equals(Shipment.class)
+                && mapper.targetType().equals(ShipmentView.class);
+        }
+
+        assertThat(registered).isTrue();
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_reports_generated_mapper_for_generated_pairs(Mapper sut) {
+        MappingExplanation view = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+        MappingExplanation entity = sut.explain(
+            Shipment.class,
+            ShipmentEntity.class
+        );
+        MappingExplanation shipment = sut.explain(
+            ShipmentEntity.class,
+            Shipment.class
+        );
+
+        assertThat(view.getStrategy())
+            .isEqualTo(MappingStrategy.GENERATED_MAPPER);
+        assertThat(view.getConverter()).isInstanceOf(GeneratedMapper.class);
+        assertThat(entity.getStrategy())
+            .isEqualTo(MappingStrategy.GENERATED_MAPPER);
+        assertThat(shipment.getStrategy())
+            .isEqualTo(MappingStrategy.GENERATED_MAPPER);
+    }
+
+    @Test
+    @AutoDomainParams
+    void explain_reports_reflective_plan_for_pairs_without_generated_mapper(
+        Mapper sut
+    ) {
+        MappingExplanation actual = sut.explain(
+            ShipmentView.class,
+            ShipmentEntity.class
+        );
+
+        assertThat(actual.getStrategy())
+            .isEqualTo(MappingStrategy.CONSTRUCTION);
+    }
+
+    private static final String SERVICES =
+        "META-INF/services/" + GeneratedMapper.class.getName();
+
+    private static class ServicesClassLoader extends ClassLoader {
+
+        private final List<URL> services;
+
+        public ServicesClassLoader(List<URL> services) {
+            super(SpecsForGeneratedMapping.class.getClassLoader());
+            this.services = services;
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return name.equals(SERVICES)
+                ? enumeration(services)
+                : super.getResources(name);
+        }
+    }
+
+    private static class RecordingHandler extends Handler {
+
+        private final List<LogRecord> records = new ArrayList<>();
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void setGeneratedMapperClassLoader_selects_services_to_load() {
+        ClassLoader loader = new ServicesClassLoader(emptyList());
+        Mapper sut = new Mapper(c -> c.setGeneratedMapperClassLoader(loader));
+
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+
+        assertThat(actual.getStrategy())
+            .isEqualTo(MappingStrategy.CONSTRUCTION);
+    }
+
+    @Test
+    void sut_loads_generated_mappers_from_context_class_loader() {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        Mapper sut;
+        try {
+            thread.setContextClassLoader(new ServicesClassLoader(emptyList()));
+            sut = new Mapper();
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+
+        assertThat(actual.getStrategy())
+            .isEqualTo(MappingStrategy.CONSTRUCTION);
+    }
+
+    @Test
+    void sut_logs_broken_generated_mapper_and_loads_others(
+        @TempDir Path directory
+    ) throws IOException {
+        Path services = directory.resolve("services");
+        Files.write(services, asList("test.easymapper.MissingMapper"));
+        List<URL> urls = new ArrayList<>(list(
+            getClass().getClassLoader().getResources(SERVICES)
+        ));
+        urls.add(0, services.toUri().toURL());
+        ClassLoader loader = new ServicesClassLoader(urls);
+        Logger logger = Logger.getLogger("easymapper.GeneratedMapperContainer");
+        RecordingHandler handler = new RecordingHandler();
+        logger.addHandler(handler);
+
+        Mapper sut;
+        try {
+            sut = new Mapper(c -> c.setGeneratedMapperClassLoader(loader));
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertThat(handler.records).hasSize(1);
+        assertThat(handler.records.get(0).getLevel()).isEqualTo(Level.WARNING);
+        assertThat(handler.records.get(0).getThrown())
+            .isInstanceOf(ServiceConfigurationError.class)
+            .hasMessageContaining("test.easymapper.MissingMapper");
+        MappingExplanation actual = sut.explain(
+            Shipment.class,
+            ShipmentView.class
+        );
+        assertThat(actual.getStrategy())
+            .isEqualTo(MappingStrategy.GENERATED_MAPPER);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_flattens_properties_for_constructors(
+        Mapper sut,
+        Shipment source
+    ) {
+        ShipmentView actual = sut.convert(source, ShipmentView.class);
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getRecipientName())
+            .isEqualTo(source.getRecipient().getName());
+        assertThat(actual.getRecipientPhoneNumber())
+            .isEqualTo(source.getRecipient().getPhoneNumber());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_flattens_properties_for_setters(
+        Mapper sut,
+        Shipment source
+    ) {
+        ShipmentEntity actual = sut.convert(source, ShipmentEntity.class);
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getRecipientName())
+            .isEqualTo(source.getRecipient().getName());
+        assertThat(actual.getRecipientPhoneNumber())
+            .isEqualTo(source.getRecipient().getPhoneNumber());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_flattens_null_nested_object(
+        Mapper sut,
+        long id
+    ) {
+        Shipment source = new Shipment(id, null);
+
+        ShipmentEntity actual = sut.convert(source, ShipmentEntity.class);
+
+        assertThat(actual.getId()).isEqualTo(id);
+        assertThat(actual.getRecipientName()).isNull();
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_unflattens_properties_for_constructors(
+        Mapper sut,
+        Shipment shipment
+    ) {
+        ShipmentEntity source = sut.convert(shipment, ShipmentEntity.class);
+
+        Shipment actual = sut.convert(source, Shipment.class);
+
+        assertThat(actual)
+            .usingRecursiveComparison()
+            .isEqualTo(shipment);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_prefers_registered_converter_to_generated_mapper(
+        Shipment source,
+        ShipmentView view
+    ) {
+        Mapper sut = new Mapper(config -> config.addConverter(
+            Shipment.class,
+            ShipmentView.class,
+            (s, context) -> view
+        ));
+
+        ShipmentView actual = sut.convert(source, ShipmentView.class);
+
+        assertThat(actual).isSameAs(view);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_prefers_registered_extractor_to_generated_mapper(
+        Shipment source,
+        String recipientName
+    ) {
+        Mapper sut = new Mapper(config -> config.addExtractor(
+            Shipment.class,
+            ShipmentView.class,
+            "recipientName",
+            (s, context) -> recipientName
+        ));
+
+        ShipmentView actual = sut.convert(source, ShipmentView.class);
+
+        assertThat(actual.getRecipientName()).isEqualTo(recipientName);
+        assertThat(sut
+            .explain(Shipment.class, ShipmentView.class)
+            .getStrategy()
+        ).isEqualTo(MappingStrategy.CONSTRUCTION);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_applies_registered_converter_for_inlined_types(
+        Shipment source
+    ) {
+        Mapper sut = new Mapper(config -> config.addConverter(
+            String.class,
+            String.class,
+            (s, context) -> s.toUpperCase()
+        ));
+
+        ShipmentView actual = sut.convert(source, ShipmentView.class);
+
+        assertThat(actual.getRecipientName())
+            .isEqualTo(source.getRecipient().getName().toUpperCase());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_honours_custom_constructor_extractor_for_generated_pair(
+        Shipment source
+    ) {
+        List<Class<?>> extracted = new ArrayList<>();
+        Mapper sut = new Mapper(config -> config.setConstructorExtractor(
+            type -> {
+                extracted.add(type);
+                return asList(type.getConstructors());
+            }
+        ));
+
+        ShipmentView actual = sut.convert(source, ShipmentView.class);
+
+        assertThat(extracted).contains(ShipmentView.class);
+        assertThat(sut
+            .explain(Shipment.class, ShipmentView.class)
+            .getStrategy()
+        ).isEqualTo(MappingStrategy.CONSTRUCTION);
+        assertThat(actual.getRecipientName())
+            .isEqualTo(source.getRecipient().getName());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_honours_custom_parameter_name_resolver_for_generated_pair(
+        Shipment source
+    ) {
+        List<Parameter> resolved = new ArrayList<>();
+        Mapper sut = new Mapper(config -> config.setParameterNameResolver(
+            parameter -> {
+                resolved.add(parameter);
+                return Optional.empty();
+            }
+        ));
+
+        ShipmentView actual = sut.convert(source, ShipmentView.class);
+
+        assertThat(resolved).isNotEmpty();
+        assertThat(sut
+            .explain(Shipment.class, ShipmentView.class)
+            .getStrategy()
+        ).isEqualTo(MappingStrategy.CONSTRUCTION);
+        assertThat(actual.getRecipientName())
+            .isEqualTo(source.getRecipient().getName());
+    }
+}
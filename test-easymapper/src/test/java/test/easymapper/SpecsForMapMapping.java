@@ -0,0 +1,156 @@
+package test.easymapper;
+
+import easymapper.Mapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static java.util.Collections.reverseOrder;
+import static java.util.Comparator.comparing;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForMapMapping {
+
+    @AllArgsConstructor
+    @Getter
+    public static class UUIDMapBag {
+
+        private final Map<UUID, UUID> value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringMapBag {
+
+        private final Map<String, String> value;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringSortedMapBag {
+
+        private final SortedMap<String, String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_maps_null_map_to_null(Mapper sut) {
+        val source = new UUIDMapBag(null);
+
+        StringMapBag target = sut.convert(source, StringMapBag.class);
+
+        assertThat(target.getValue()).isNull();
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_keys_and_values(
+        Mapper sut,
+        UUIDMapBag source
+    ) {
+        StringMapBag target = sut.convert(source, StringMapBag.class);
+
+        Map<String, String> actual = target.getValue();
+        assertThat(actual).isInstanceOf(LinkedHashMap.class);
+        assertThat(actual).hasSameSizeAs(source.getValue());
+        source.getValue().forEach((key, value) -> assertThat(actual)
+            .containsEntry(key.toString(), value.toString()));
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_correctly_maps_sorted_map(Mapper sut, UUIDMapBag source) {
+        StringSortedMapBag target = sut.convert(
+            source,
+            StringSortedMapBag.class
+        );
+
+        SortedMap<String, String> actual = target.getValue();
+        assertThat(actual).isInstanceOf(TreeMap.class);
+        assertThat(actual).hasSameSizeAs(source.getValue());
+        source.getValue().forEach((key, value) -> assertThat(actual)
+            .containsEntry(key.toString(), value.toString()));
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_copies_map_of_same_types(Mapper sut, StringMapBag source) {
+        StringMapBag target = sut.convert(source, StringMapBag.class);
+
+        assertThat(target.getValue())
+            .isNotSameAs(source.getValue())
+            .isEqualTo(source.getValue());
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Key {
+
+        private final String name;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class KeySortedMapBag {
+
+        private final SortedMap<Key, String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_keeps_comparator_of_sorted_map(
+        Mapper sut,
+        String first,
+        String second
+    ) {
+        SortedMap<Key, String> map = new TreeMap<>(comparing(Key::getName));
+        map.put(new Key(second), second);
+        map.put(new Key(first), first);
+
+        KeySortedMapBag target = sut.convert(
+            new KeySortedMapBag(map),
+            KeySortedMapBag.class
+        );
+
+        SortedMap<Key, String> actual = target.getValue();
+        assertThat(actual.comparator()).isSameAs(map.comparator());
+        assertThat(actual.values()).containsExactlyElementsOf(map.values());
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class StringConcurrentNavigableMapBag {
+
+        private final ConcurrentNavigableMap<String, String> value;
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_keeps_comparator_of_concurrent_navigable_map(
+        Mapper sut,
+        StringMapBag source
+    ) {
+        ConcurrentNavigableMap<String, String> map =
+            new ConcurrentSkipListMap<>(reverseOrder());
+        map.putAll(source.getValue());
+
+        StringConcurrentNavigableMapBag target = sut.convert(
+            new StringConcurrentNavigableMapBag(map),
+            StringConcurrentNavigableMapBag.class
+        );
+
+        ConcurrentNavigableMap<String, String> actual = target.getValue();
+        assertThat(actual).isInstanceOf(ConcurrentSkipListMap.class);
+        assertThat(actual.comparator()).isSameAs(map.comparator());
+        assertThat(actual.keySet()).containsExactlyElementsOf(map.keySet());
+    }
+}
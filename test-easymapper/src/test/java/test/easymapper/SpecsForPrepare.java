@@ -0,0 +1,243 @@
+package test.easymapper;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import easymapper.CollectionProjection;
+import easymapper.Mapper;
+import easymapper.MappingMetrics;
+import easymapper.MappingOperation;
+import easymapper.TypeReference;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("DataFlowIssue")
+public class SpecsForPrepare {
+
+    @AllArgsConstructor
+    @Getter
+    public static class User {
+
+        private final long id;
+        private final String username;
+        private final Address address;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Address {
+
+        private final String country;
+        private final String city;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UserView {
+
+        private final long id;
+        private final String username;
+        private final String addressCity;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UserEntity {
+
+        private final long id;
+        private final String email;
+    }
+
+    public static class UserSummary {
+
+        private final String username;
+
+        public UserSummary(String username, int unused) {
+            this.username = username;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Team {
+
+        private final List<User> members;
+    }
+
+    @Getter
+    @Setter
+    public static class TeamEntity {
+
+        private List<UserView> members;
+    }
+
+    public static class CompilationCounter implements MappingMetrics {
+
+        private final List<String> compilations = new ArrayList<>();
+
+        @Override
+        public void onEnd(
+            MappingOperation operation,
+            Type sourceType,
+            Type targetType,
+            int depth,
+            long elapsedNanos
+        ) {
+        }
+
+        @Override
+        public void onCompiled(
+            MappingOperation operation,
+            Type sourceType,
+            Type targetType,
+            long elapsedNanos
+        ) {
+            compilations.add(
+                operation + " " + sourceType + " -> " + targetType
+            );
+        }
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepare_has_null_guard_for_source_type(Mapper sut) {
+        Class<User> sourceType = null;
+        assertThatThrownBy(() -> sut.prepare(sourceType, UserView.class))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("sourceType");
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepare_has_null_guard_for_target_type(Mapper sut) {
+        Class<UserView> targetType = null;
+        assertThatThrownBy(() -> sut.prepare(User.class, targetType))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("targetType");
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepare_compiles_the_entire_mapping_graph(User source) {
+        CompilationCounter counter = new CompilationCounter();
+        Mapper sut = new Mapper(config -> config.setMetrics(counter));
+
+        sut.prepare(User.class, UserView.class);
+        int compilations = counter.compilations.size();
+        UserView actual = sut.convert(source, UserView.class);
+
+        assertThat(counter.compilations).hasSize(compilations);
+        assertThat(actual.getAddressCity())
+            .isEqualTo(source.getAddress().getCity());
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepare_compiles_collection_element_pairs(List<User> source) {
+        CompilationCounter counter = new CompilationCounter();
+        Mapper sut = new Mapper(config -> config.setMetrics(counter));
+        TypeReference<List<User>> sourceType =
+            new TypeReference<List<User>>() { };
+        TypeReference<List<UserView>> targetType =
+            new TypeReference<List<UserView>>() { };
+
+        sut.prepare(sourceType, targetType);
+        int compilations = counter.compilations.size();
+        List<UserView> actual = sut.convert(source, sourceType, targetType);
+
+        assertThat(counter.compilations).hasSize(compilations);
+        assertThat(counter.compilations).contains(
+            "CONVERT " + User.class + " -> " + UserView.class
+        );
+        assertThat(actual).hasSize(source.size());
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepare_compiles_conversion_of_in_place_collection_setters(
+        Team source
+    ) {
+        CompilationCounter counter = new CompilationCounter();
+        Mapper sut = new Mapper(config -> config
+            .setMetrics(counter)
+            .setCollectionProjection(CollectionProjection.IN_PLACE));
+
+        sut.prepare(Team.class, TeamEntity.class);
+        int compilations = counter.compilations.size();
+        TeamEntity actual = sut.convert(source, TeamEntity.class);
+
+        assertThat(counter.compilations).hasSize(compilations);
+        assertThat(actual.getMembers()).hasSize(source.getMembers().size());
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepare_fails_fast_for_unmappable_constructor_argument(Mapper sut) {
+        assertThatThrownBy(() -> sut.prepare(User.class, UserEntity.class))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining(UserEntity.class.getTypeName())
+            .hasMessageContaining("email");
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepare_fails_fast_for_constructor_without_property_names(
+        Mapper sut
+    ) {
+        assertThatThrownBy(() -> sut.prepare(User.class, UserSummary.class))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("@ConstructorProperties");
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepareAll_has_null_guard_for_configure(Mapper sut) {
+        assertThatThrownBy(() -> sut.prepareAll(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("configure");
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepareAll_prepares_every_mapping(User source) {
+        CompilationCounter counter = new CompilationCounter();
+        Mapper sut = new Mapper(config -> config.setMetrics(counter));
+
+        sut.prepareAll(mappings -> mappings
+            .add(User.class, UserView.class)
+            .add(Address.class, Address.class)
+        );
+        int compilations = counter.compilations.size();
+        sut.convert(source, UserView.class);
+        sut.convert(source.getAddress(), Address.class);
+
+        assertThat(counter.compilations).hasSize(compilations);
+    }
+
+    @Test
+    @AutoDomainParams
+    void prepareAll_reports_every_failure(Mapper sut) {
+        assertThatThrownBy(() -> sut.prepareAll(mappings -> mappings
+            .add(User.class, UserEntity.class)
+            .add(User.class, UserView.class)
+            .add(User.class, UserSummary.class)
+        ))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("2 of 3")
+            .hasMessageContaining(UserEntity.class.getTypeName())
+            .hasMessageContaining(UserSummary.class.getTypeName())
+            .satisfies(exception ->
+                assertThat(exception.getSuppressed()).hasSize(2)
+            );
+    }
+}
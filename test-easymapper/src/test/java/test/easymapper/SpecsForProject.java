@@ -1,5 +1,7 @@
 package test.easymapper;
 
+import easymapper.CollectionPassThrough;
+import easymapper.CollectionProjection;
 import easymapper.Mapper;
 import easymapper.TypeReference;
 import lombok.AllArgsConstructor;
@@ -10,8 +12,14 @@ import lombok.val;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -425,4 +433,329 @@ public class SpecsForProject {
         assertThat(target.getValue().getValue())
             .isEqualTo(source.getValue().getValue().toString());
     }
+
+    @AllArgsConstructor
+    @Getter
+    public static class LineDto {
+
+        private final Long id;
+        private final String name;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Line {
+
+        private Long id;
+        private String name;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class OrderDto {
+
+        private final List<LineDto> lines;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Order {
+
+        private List<Line> lines = new ArrayList<>();
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_replaces_collection_by_default(
+        Mapper sut,
+        Line line,
+        LineDto lineDto
+    ) {
+        Order target = new Order();
+        target.getLines().add(line);
+        List<Line> lines = target.getLines();
+
+        sut.project(new OrderDto(asList(lineDto)), target);
+
+        assertThat(target.getLines()).isNotSameAs(lines);
+        assertThat(target.getLines()).hasSize(1);
+        assertThat(target.getLines().get(0).getId())
+            .isEqualTo(lineDto.getId());
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_projects_collection_elements_in_place_by_index(
+        Line first,
+        Line second,
+        LineDto lineDto
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE));
+        Order target = new Order();
+        target.getLines().addAll(asList(first, second));
+        List<Line> lines = target.getLines();
+
+        sut.project(new OrderDto(asList(lineDto)), target);
+
+        assertThat(target.getLines()).isSameAs(lines);
+        assertThat(lines).containsExactly(first);
+        assertThat(first.getId()).isEqualTo(lineDto.getId());
+        assertThat(first.getName()).isEqualTo(lineDto.getName());
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_projects_collection_elements_in_place_by_key(
+        String name,
+        String otherName
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE)
+            .addElementKey(LineDto.class, LineDto::getId)
+            .addElementKey(Line.class, Line::getId));
+        Line kept = new Line(1L, otherName);
+        Line removed = new Line(2L, otherName);
+        Order target = new Order();
+        target.getLines().addAll(asList(removed, kept));
+        List<Line> lines = target.getLines();
+
+        sut.project(
+            new OrderDto(asList(
+                new LineDto(null, name),
+                new LineDto(1L, name)
+            )),
+            target
+        );
+
+        assertThat(target.getLines()).isSameAs(lines);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).getId()).isNull();
+        assertThat(lines.get(0).getName()).isEqualTo(name);
+        assertThat(lines.get(1)).isSameAs(kept);
+        assertThat(kept.getName()).isEqualTo(name);
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_keeps_source_order_of_elements_projected_by_key(
+        String name
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE)
+            .addElementKey(LineDto.class, LineDto::getId)
+            .addElementKey(Line.class, Line::getId));
+        Line first = new Line(1L, name);
+        Line second = new Line(2L, name);
+        Order target = new Order();
+        target.getLines().addAll(asList(first, second));
+
+        sut.project(
+            new OrderDto(asList(new LineDto(2L, name), new LineDto(1L, name))),
+            target
+        );
+
+        assertThat(target.getLines()).containsExactly(second, first);
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_converts_elements_with_duplicate_source_key(
+        String name,
+        String otherName
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE)
+            .addElementKey(LineDto.class, LineDto::getId)
+            .addElementKey(Line.class, Line::getId));
+        Line existing = new Line(1L, name);
+        Order target = new Order();
+        target.getLines().add(existing);
+
+        sut.project(
+            new OrderDto(asList(
+                new LineDto(1L, name),
+                new LineDto(1L, otherName)
+            )),
+            target
+        );
+
+        List<Line> lines = target.getLines();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isSameAs(existing);
+        assertThat(existing.getName()).isEqualTo(name);
+        assertThat(lines.get(1)).isNotSameAs(existing);
+        assertThat(lines.get(1).getId()).isEqualTo(1L);
+        assertThat(lines.get(1).getName()).isEqualTo(otherName);
+    }
+
+    public static class ClearRecordingList<E> extends ArrayList<E> {
+
+        private int clears;
+
+        @Override
+        public void clear() {
+            clears++;
+            super.clear();
+        }
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_updates_only_changed_elements_by_key(
+        String name,
+        String otherName
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE)
+            .addElementKey(LineDto.class, LineDto::getId)
+            .addElementKey(Line.class, Line::getId));
+        Line kept = new Line(1L, otherName);
+        Line removed = new Line(2L, otherName);
+        ClearRecordingList<Line> lines = new ClearRecordingList<>();
+        lines.addAll(asList(removed, kept));
+        Order target = new Order();
+        target.setLines(lines);
+
+        sut.project(
+            new OrderDto(asList(new LineDto(1L, name), new LineDto(3L, name))),
+            target
+        );
+
+        assertThat(target.getLines()).isSameAs(lines);
+        assertThat(lines.clears).isZero();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isSameAs(kept);
+        assertThat(lines.get(1).getId()).isEqualTo(3L);
+        assertThat(lines).doesNotContain(removed);
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class PostDto {
+
+        private final Set<String> tags;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class TaggedPost {
+
+        private Set<String> tags = new HashSet<>();
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_replaces_set_without_element_key_in_place_mode(
+        String oldTag,
+        String firstTag,
+        String secondTag
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE));
+        TaggedPost target = new TaggedPost();
+        target.getTags().add(oldTag);
+
+        sut.project(
+            new PostDto(new HashSet<>(asList(firstTag, secondTag))),
+            target
+        );
+
+        assertThat(target.getTags()).containsExactlyInAnyOrder(
+            firstTag,
+            secondTag
+        );
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class DraftDto {
+
+        private final List<LineDto> lines;
+        private final List<String> notes;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Draft {
+
+        private List<Line> lines;
+        private List<String> notes;
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_replaces_lazy_collection_in_place_mode(
+        DraftDto source,
+        LineDto line
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE)
+            .setLazyCollections(true));
+        Draft target = sut.convert(source, Draft.class);
+
+        sut.project(new DraftDto(asList(line), source.getNotes()), target);
+
+        assertThat(target.getLines()).hasSize(1);
+        assertThat(target.getLines().get(0).getId()).isEqualTo(line.getId());
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_replaces_collection_view_in_place_mode(
+        DraftDto first,
+        DraftDto second
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE)
+            .setCollectionPassThrough(CollectionPassThrough.VIEW));
+        Draft target = sut.convert(first, Draft.class);
+
+        sut.project(second, target);
+
+        assertThat(target.getNotes())
+            .containsExactlyElementsOf(second.getNotes());
+        assertThat(first.getNotes()).doesNotContainAnyElementsOf(
+            second.getNotes()
+        );
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_replaces_fixed_size_collection_in_place_mode(
+        DraftDto source,
+        String note
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE));
+        Draft target = new Draft();
+        target.setNotes(asList(note));
+
+        sut.project(source, target);
+
+        assertThat(target.getNotes())
+            .containsExactlyElementsOf(source.getNotes());
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_replaces_unmodifiable_collection_in_place_mode(
+        DraftDto source,
+        String note
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .setCollectionProjection(CollectionProjection.IN_PLACE));
+        Draft target = new Draft();
+        target.setNotes(unmodifiableList(new ArrayList<>(asList(note))));
+
+        sut.project(source, target);
+
+        assertThat(target.getNotes())
+            .containsExactlyElementsOf(source.getNotes());
+    }
 }
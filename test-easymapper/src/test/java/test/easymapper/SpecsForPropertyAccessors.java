@@ -0,0 +1,122 @@
+package test.easymapper;
+
+import java.lang.reflect.InvocationTargetException;
+
+import easymapper.Converter;
+import easymapper.Mapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpecsForPropertyAccessors {
+
+    @AllArgsConstructor
+    @Getter
+    static class Code {
+
+        private final String value;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Product {
+
+        private String name;
+        private Code code;
+    }
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class ProductView {
+
+        private String name;
+        private Code code;
+    }
+
+    public static class FailingProduct {
+
+        public String getName() {
+            throw new IllegalStateException("getter");
+        }
+    }
+
+    @NoArgsConstructor
+    @Getter
+    public static class FailingProductView {
+
+        private String name;
+
+        public void setName(String name) {
+            throw new IllegalStateException("setter");
+        }
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_reads_properties_of_types_not_visible_to_mapper(
+        String name,
+        String code
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .addConverter(Code.class, Code.class, Converter.identity()));
+        Product source = new Product();
+        source.setName(name);
+        source.setCode(new Code(code));
+
+        ProductView actual = sut.convert(source, ProductView.class);
+
+        assertThat(actual.getName()).isEqualTo(name);
+        assertThat(actual.getCode()).isSameAs(source.getCode());
+    }
+
+    @Test
+    @AutoDomainParams
+    void project_writes_properties_of_types_not_visible_to_mapper(
+        String name,
+        String code
+    ) {
+        Mapper sut = new Mapper(config -> config
+            .addConverter(Code.class, Code.class, Converter.identity()));
+        Product source = new Product();
+        source.setName(name);
+        source.setCode(new Code(code));
+        Product target = new Product();
+
+        sut.project(source, target);
+
+        assertThat(target.getName()).isEqualTo(name);
+        assertThat(target.getCode()).isSameAs(source.getCode());
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_wraps_exception_thrown_by_getter(Mapper sut) {
+        assertThatThrownBy(
+            () -> sut.convert(new FailingProduct(), ProductView.class)
+        )
+            .isExactlyInstanceOf(RuntimeException.class)
+            .hasCauseExactlyInstanceOf(InvocationTargetException.class)
+            .hasRootCauseMessage("getter");
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_wraps_exception_thrown_by_setter(Mapper sut, String name) {
+        Product source = new Product();
+        source.setName(name);
+
+        assertThatThrownBy(
+            () -> sut.convert(source, FailingProductView.class)
+        )
+            .isExactlyInstanceOf(RuntimeException.class)
+            .hasCauseExactlyInstanceOf(InvocationTargetException.class)
+            .hasRootCauseMessage("setter");
+    }
+}
@@ -0,0 +1,196 @@
+package test.easymapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.function.Supplier;
+
+import easymapper.Mapper;
+import easymapper.TypeReference;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecsForPropertyCache {
+
+    @AllArgsConstructor
+    @Getter
+    public static class Box<T> {
+
+        private final T value;
+        private final String label;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class BoxView<T> {
+
+        private final T value;
+        private final String label;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class User {
+
+        private final long id;
+        private final String username;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class UserView {
+
+        private final long id;
+        private final String username;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class Address {
+
+        private final String country;
+        private final String city;
+    }
+
+    @AllArgsConstructor
+    @Getter
+    public static class AddressView {
+
+        private final String country;
+        private final String city;
+    }
+
+    public static class IsolatedMapping implements Supplier<Object> {
+
+        @AllArgsConstructor
+        @Getter
+        public static class Payload {
+
+            private final String value;
+        }
+
+        @Override
+        public Object get() {
+            return new Mapper().convert(
+                new Box<>(new Payload("foo"), "bar"),
+                new TypeReference<Box<Payload>>() { },
+                new TypeReference<BoxView<Payload>>() { }
+            );
+        }
+    }
+
+    private static class IsolatingClassLoader extends ClassLoader {
+
+        private final String prefix;
+
+        public IsolatingClassLoader(ClassLoader parent, String prefix) {
+            super(parent);
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected Class<?> loadClass(
+            String name,
+            boolean resolve
+        ) throws ClassNotFoundException {
+            if (name.startsWith(prefix) == false) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    byte[] bytes = readClass(name);
+                    type = defineClass(name, bytes, 0, bytes.length);
+                }
+
+                return type;
+            }
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            String resource = name.replace('.', '/') + ".class";
+            InputStream stream = getParent().getResourceAsStream(resource);
+            if (stream == null) {
+                throw new ClassNotFoundException(name);
+            }
+
+            try (InputStream input = stream) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                for (int n; (n = input.read(buffer)) != -1; ) {
+                    bytes.write(buffer, 0, n);
+                }
+
+                return bytes.toByteArray();
+            } catch (IOException exception) {
+                throw new ClassNotFoundException(name, exception);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeakReference<ClassLoader> convertInIsolatedClassLoader()
+        throws ReflectiveOperationException {
+
+        ClassLoader loader = new IsolatingClassLoader(
+            SpecsForPropertyCache.class.getClassLoader(),
+            IsolatedMapping.class.getName()
+        );
+        Supplier<Object> mapping = (Supplier<Object>) loader
+            .loadClass(IsolatedMapping.class.getName())
+            .getConstructor()
+            .newInstance();
+
+        BoxView<?> actual = (BoxView<?>) mapping.get();
+
+        assertThat(actual.getValue().getClass().getClassLoader())
+            .isSameAs(loader);
+        assertThat(actual.getLabel()).isEqualTo("bar");
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    @AutoDomainParams
+    void convert_resolves_properties_of_each_parameterization(
+        Mapper sut,
+        Box<User> user,
+        Box<Address> address
+    ) {
+        BoxView<UserView> actualUser = sut.convert(
+            user,
+            new TypeReference<Box<User>>() { },
+            new TypeReference<BoxView<UserView>>() { }
+        );
+        BoxView<AddressView> actualAddress = sut.convert(
+            address,
+            new TypeReference<Box<Address>>() { },
+            new TypeReference<BoxView<AddressView>>() { }
+        );
+
+        assertThat(actualUser.getValue())
+            .usingRecursiveComparison()
+            .isEqualTo(user.getValue());
+        assertThat(actualAddress.getValue())
+            .usingRecursiveComparison()
+            .isEqualTo(address.getValue());
+    }
+
+    @Test
+    void convert_does_not_pin_class_loader_of_type_arguments()
+        throws ReflectiveOperationException, InterruptedException {
+
+        WeakReference<ClassLoader> loader = convertInIsolatedClassLoader();
+
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(loader.get()).isNull();
+    }
+}
@@ -0,0 +1,129 @@
+package test.easymapper;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import easymapper.Mapper;
+import easymapper.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("DataFlowIssue")
+public class SpecsForStreaming {
+
+    @Test
+    @AutoDomainParams
+    void stream_has_null_guard_for_source(Mapper sut) {
+        Stream<UUID> source = null;
+        assertThatThrownBy(() -> sut.stream(source, UUID.class, String.class))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("source");
+    }
+
+    @Test
+    @AutoDomainParams
+    void stream_correctly_converts_elements(Mapper sut, List<UUID> source) {
+        List<String> actual = sut
+            .stream(source.stream(), UUID.class, String.class)
+            .collect(toList());
+
+        assertThat(actual).isEqualTo(
+            source.stream().map(UUID::toString).collect(toList())
+        );
+    }
+
+    @Test
+    @AutoDomainParams
+    void stream_without_source_type_correctly_converts_elements(
+        Mapper sut,
+        List<UUID> source
+    ) {
+        List<String> actual = sut
+            .stream(source.stream(), String.class)
+            .collect(toList());
+
+        assertThat(actual).isEqualTo(
+            source.stream().map(UUID::toString).collect(toList())
+        );
+    }
+
+    @Test
+    @AutoDomainParams
+    void stream_converts_elements_lazily(List<UUID> source) {
+        List<UUID> converted = new ArrayList<>();
+        Mapper sut = new Mapper(config -> config.addConverter(
+            UUID.class,
+            String.class,
+            (element, context) -> {
+                converted.add(element);
+                return element.toString();
+            }
+        ));
+
+        Stream<String> actual = sut.stream(
+            source.stream(),
+            new TypeReference<UUID>() { },
+            new TypeReference<String>() { }
+        );
+        assertThat(converted).isEmpty();
+
+        String first = actual.findFirst().orElse(null);
+
+        assertThat(first).isEqualTo(source.get(0).toString());
+        assertThat(converted).containsExactly(source.get(0));
+    }
+
+    @Test
+    @AutoDomainParams
+    void iterator_has_null_guard_for_source(Mapper sut) {
+        Iterator<UUID> source = null;
+        assertThatThrownBy(
+            () -> sut.iterator(source, UUID.class, String.class)
+        )
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("source");
+    }
+
+    @Test
+    @AutoDomainParams
+    void iterator_correctly_converts_elements(
+        Mapper sut,
+        List<UUID> source
+    ) {
+        Iterator<String> iterator = sut.iterator(
+            source.iterator(),
+            UUID.class,
+            String.class
+        );
+
+        List<String> actual = new ArrayList<>();
+        iterator.forEachRemaining(actual::add);
+        assertThat(actual).isEqualTo(
+            source.stream().map(UUID::toString).collect(toList())
+        );
+    }
+
+    @Test
+    @AutoDomainParams
+    void iterator_without_source_type_correctly_converts_elements(
+        Mapper sut,
+        List<UUID> source
+    ) {
+        Iterator<String> iterator = sut.iterator(
+            source.iterator(),
+            String.class
+        );
+
+        List<String> actual = new ArrayList<>();
+        iterator.forEachRemaining(actual::add);
+        assertThat(actual).isEqualTo(
+            source.stream().map(UUID::toString).collect(toList())
+        );
+    }
+}